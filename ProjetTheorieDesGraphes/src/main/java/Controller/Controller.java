@@ -7,6 +7,7 @@ import com.brunomnsilva.smartgraph.graphview.SmartArrow;
 import com.brunomnsilva.smartgraph.graphview.SmartGraphEdgeNode;
 import com.brunomnsilva.smartgraph.graphview.SmartGraphPanel;
 import javafx.application.Platform;
+import javafx.concurrent.Task;
 import javafx.fxml.FXML;
 import javafx.fxml.Initializable;
 import javafx.scene.control.ComboBox;
@@ -21,6 +22,8 @@ import java.io.IOException;
 import java.net.URL;
 import java.util.List;
 import java.util.ResourceBundle;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
 
 /**
  * Contrôleur principal de l’application.
@@ -80,6 +83,16 @@ public class Controller implements Initializable {
     /** Tableau contenant le résultat et les étapes de l’exécution d’un algorithme. */
     private String[] res;
 
+    /** Calcul long en cours hors du thread JavaFX (null si aucun). */
+    private Task<BackgroundResult> backgroundTask;
+
+    /**
+     * Résultat d’un calcul en arrière-plan : étapes et résultat à afficher, et chemin
+     * à mettre en évidence (transmis avec le résultat plutôt que lu dans un état partagé).
+     */
+    private record BackgroundResult(String[] text, List<Integer> path) {
+    }
+
     /** Panneau graphique utilisé pour afficher le graphe à l’aide de SmartGraph. */
     private SmartGraphPanel<String, String> smartGraphPanel;
 
@@ -102,6 +115,7 @@ public class Controller implements Initializable {
             if (f.exists()) {
                 loadAndDisplayGraph(defaultGraphFile);
             } else {
+                cancelBackgroundTask();
                 currentGraph = GraphManager.initDefaultGraph(null, stepsTextArea);
                 displaySmartGraph(currentGraph);
             }
@@ -202,6 +216,7 @@ public class Controller implements Initializable {
      * @param filepath chemin du fichier texte contenant la matrice d’adjacence
      */
     private void loadAndDisplayGraph(String filepath) {
+        cancelBackgroundTask(); // un calcul sur l’ancien graphe ne doit pas s’afficher sur le nouveau
         try {
             currentGraph = Helpers.FileHelper.loadGraphFromFile(filepath);
             displaySmartGraph(currentGraph);
@@ -224,7 +239,8 @@ public class Controller implements Initializable {
         String selectedAlgo = algorithmComboBox.getValue();
         boolean hasNeg = GraphManager.hasNegativeWeight(currentGraph);
 
-        if (hasNeg && !(selectedAlgo.equals("Bellman-Ford") || selectedAlgo.equals("Floyd"))) {
+        if (hasNeg && !(selectedAlgo.equals("Bellman-Ford") || selectedAlgo.equals("Bellman-Ford (SPFA)")
+                || selectedAlgo.equals("Floyd"))) {
             stepsTextArea.setText("Algorithme non disponible pour graphe avec poids négatif !");
             return;
         }
@@ -255,17 +271,42 @@ public class Controller implements Initializable {
                 int endIndex = currentGraph.getAllVertexNames().indexOf(endComboBox.getValue());
                 res = GraphManager.runDijkstra((Dijkstra) currentAlgo, currentGraph, startIndex, endIndex);
             }
+            case "Dijkstra bidirectionnel" -> {
+                currentAlgo = new BidirectionalDijkstra();
+                int startIndex = currentGraph.getAllVertexNames().indexOf(startComboBox.getValue());
+                int endIndex = currentGraph.getAllVertexNames().indexOf(endComboBox.getValue());
+                res = GraphManager.runBidirectionalDijkstra(currentGraph, startIndex, endIndex);
+            }
+            case "A*" -> {
+                currentAlgo = new AStar();
+                int startIndex = currentGraph.getAllVertexNames().indexOf(startComboBox.getValue());
+                int endIndex = currentGraph.getAllVertexNames().indexOf(endComboBox.getValue());
+                res = GraphManager.runAStar(currentGraph, startIndex, endIndex);
+            }
             case "Bellman-Ford" -> {
                 currentAlgo = new BellmanFord();
                 int startIndex = currentGraph.getAllVertexNames().indexOf(startComboBox.getValue());
                 int endIndex = currentGraph.getAllVertexNames().indexOf(endComboBox.getValue());
                 res = GraphManager.runBellmanFord((BellmanFord) currentAlgo, currentGraph, startIndex, endIndex);
             }
+            case "Bellman-Ford (SPFA)" -> {
+                currentAlgo = new SPFA();
+                int startIndex = currentGraph.getAllVertexNames().indexOf(startComboBox.getValue());
+                int endIndex = currentGraph.getAllVertexNames().indexOf(endComboBox.getValue());
+                res = GraphManager.runSPFA((SPFA) currentAlgo, currentGraph, startIndex, endIndex);
+            }
             case "Floyd" -> {
-                currentAlgo = new FloydWarshall();
+                // Calcul en O(n³) : exécuté hors du thread JavaFX pour ne pas figer la fenêtre
+                currentAlgo = null;
+                Graphe graph = currentGraph;
                 int startIndex = currentGraph.getAllVertexNames().indexOf(startComboBox.getValue());
                 int endIndex = currentGraph.getAllVertexNames().indexOf(endComboBox.getValue());
-                res = GraphManager.runFloydWarshall((FloydWarshall) currentAlgo, currentGraph, startIndex, endIndex);
+                res = null;
+                runInBackground(cancelled -> {
+                    FloydWarshall fw = new FloydWarshall(cancelled);
+                    String[] text = GraphManager.runFloydWarshall(fw, graph, startIndex, endIndex);
+                    return new BackgroundResult(text, fw.getPath());
+                });
             }
             default -> res = null;
         }
@@ -282,24 +323,81 @@ public class Controller implements Initializable {
             return;
         }
 
+        cancelBackgroundTask(); // un éventuel calcul précédent est arrêté et ne sera pas affiché
         choiceAlgorithm();
+        if (backgroundTask == null) showResult(currentFinalPath());
+    }
+
+    /** Annule le calcul en arrière-plan en cours, s’il y en a un. */
+    private void cancelBackgroundTask() {
+        if (backgroundTask != null) backgroundTask.cancel();
+        backgroundTask = null;
+    }
 
+    /**
+     * Exécute un calcul long dans un thread séparé. Le résultat est affiché
+     * sur le thread JavaFX une fois le calcul terminé, sauf si l’utilisateur
+     * a lancé un autre algorithme ou chargé un autre graphe entre-temps : la
+     * tâche est alors annulée, et le calcul s’arrête en consultant la condition
+     * d’annulation reçue.
+     *
+     * @param job calcul produisant les étapes, le résultat et le chemin, à partir
+     *            de la condition d’annulation de la tâche
+     */
+    private void runInBackground(Function<BooleanSupplier, BackgroundResult> job) {
+        Task<BackgroundResult> task = new Task<>() {
+            @Override
+            protected BackgroundResult call() {
+                return job.apply(this::isCancelled);
+            }
+        };
+        task.setOnSucceeded(e -> {
+            if (task != backgroundTask) return;
+            backgroundTask = null;
+            res = task.getValue().text();
+            showResult(task.getValue().path());
+        });
+        task.setOnFailed(e -> {
+            if (task != backgroundTask) return;
+            backgroundTask = null;
+            stepsTextArea.setText("Erreur pendant le calcul : " + task.getException().getMessage());
+        });
+
+        backgroundTask = task;
+        stepsTextArea.setText("Calcul en cours…");
+        resultTextArea.clear();
+
+        Thread worker = new Thread(task, "calcul-algorithme");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    /**
+     * Affiche le résultat de l’algorithme courant et colore le chemin trouvé.
+     *
+     * @param finalPath chemin à mettre en évidence
+     */
+    private void showResult(List<Integer> finalPath) {
         if (res != null) {
             stepsTextArea.setText(res[0]);
             resultTextArea.setText(res[1]);
         }
+        GraphManager.highlightPathAnimated(smartGraphPanel, currentGraph, finalPath, 1000);
+    }
 
-        // Récupère et met en évidence le chemin final
+    /** @return chemin final de l’algorithme courant, exécuté sur le thread JavaFX */
+    private List<Integer> currentFinalPath() {
         List<Integer> finalPath = List.of();
         if (currentAlgo instanceof DFS dfsAlgo) finalPath = dfsAlgo.getFinalPath();
         else if (currentAlgo instanceof BFS bfsAlgo) finalPath = bfsAlgo.getFinalPath();
         else if (currentAlgo instanceof Kruskal kruskalAlgo) finalPath = kruskalAlgo.getFinalPath();
         else if (currentAlgo instanceof Prim) finalPath = Prim.getFinalPath();
         else if (currentAlgo instanceof Dijkstra) finalPath = Dijkstra.getFinalPath();
+        else if (currentAlgo instanceof BidirectionalDijkstra) finalPath = BidirectionalDijkstra.getFinalPath();
+        else if (currentAlgo instanceof AStar) finalPath = AStar.getFinalPath();
         else if (currentAlgo instanceof BellmanFord bellmanFord) finalPath = bellmanFord.getFinalPath();
-        else if (currentAlgo instanceof FloydWarshall fw) finalPath = FloydWarshall.getFinalPath();
-
-        GraphManager.highlightPathAnimated(smartGraphPanel, currentGraph, finalPath, 1000);
+        else if (currentAlgo instanceof SPFA spfa) finalPath = spfa.getFinalPath();
+        return finalPath;
     }
 
     /**
@@ -315,23 +413,29 @@ public class Controller implements Initializable {
         algorithmComboBox.getItems().clear();
 
         if (isDirected) {
-            if (hasNeg) algorithmComboBox.getItems().addAll("Bellman-Ford", "Floyd");
+            if (hasNeg) algorithmComboBox.getItems().addAll("Bellman-Ford", "Bellman-Ford (SPFA)", "Floyd");
             else algorithmComboBox.getItems().addAll(
                     "Parcours en profondeur (DFS)",
                     "Parcours en largeur (BFS)",
                     "Dijkstra",
+                    "Dijkstra bidirectionnel",
+                    "A*",
                     "Bellman-Ford",
+                    "Bellman-Ford (SPFA)",
                     "Floyd"
             );
         } else {
-            if (hasNeg) algorithmComboBox.getItems().addAll("Bellman-Ford", "Floyd");
+            if (hasNeg) algorithmComboBox.getItems().addAll("Bellman-Ford", "Bellman-Ford (SPFA)", "Floyd");
             else algorithmComboBox.getItems().addAll(
                     "Parcours en profondeur (DFS)",
                     "Parcours en largeur (BFS)",
                     "Kruskal",
                     "Prim",
                     "Dijkstra",
+                    "Dijkstra bidirectionnel",
+                    "A*",
                     "Bellman-Ford",
+                    "Bellman-Ford (SPFA)",
                     "Floyd"
             );
         }
@@ -381,7 +485,7 @@ public class Controller implements Initializable {
                 startComboBox.setDisable(false);
                 endComboBox.setDisable(true);
             }
-            case "Dijkstra", "Bellman-Ford", "Floyd" -> {
+            case "Dijkstra", "Dijkstra bidirectionnel", "A*", "Bellman-Ford", "Bellman-Ford (SPFA)", "Floyd" -> {
                 startComboBox.setDisable(false);
                 endComboBox.setDisable(false);
             }
@@ -70,6 +70,12 @@ public class FileHelper {
      * Lille 0 3 0 2
      * Nice 8 0 2 0
      *
+     * Chaque ligne peut aussi contenir, juste après le nom, deux colonnes facultatives
+     * donnant la latitude et la longitude de la ville (en degrés). Elles sont reconnues
+     * lorsque la ligne contient n + 2 valeurs au lieu de n :
+     *
+     * Paris 48.8566 2.3522 0 5 0 8
+     *
      * Cette méthode détecte automatiquement si le graphe est orienté
      * (en comparant la symétrie de la matrice).
      *
@@ -80,7 +86,7 @@ public class FileHelper {
     public static Graphe loadGraphFromMatrix(String filename) throws IOException {
         BufferedReader br = new BufferedReader(new FileReader(filename));
         List<String> cityNames = new ArrayList<>();
-        List<int[]> rows = new ArrayList<>();
+        List<String[]> tokens = new ArrayList<>();
 
         String line;
 
@@ -91,19 +97,31 @@ public class FileHelper {
 
             // Le premier élément correspond au nom de la ville
             cityNames.add(parts[0]);
+            tokens.add(Arrays.copyOfRange(parts, 1, parts.length));
+        }
+        br.close();
+
+        int n = cityNames.size();
+        List<int[]> rows = new ArrayList<>();
+        double[][] coordinates = new double[n][];
+
+        for (int r = 0; r < n; r++) {
+            String[] values = tokens.get(r);
+            int offset = 0;
+
+            // Deux colonnes supplémentaires : latitude et longitude de la ville
+            if (values.length == n + 2) {
+                coordinates[r] = new double[]{parseDouble(values[0]), parseDouble(values[1])};
+                offset = 2;
+            }
 
             // On extrait les valeurs numériques (distances ou poids)
-            int[] distances = new int[parts.length - 1];
-            for (int i = 1; i < parts.length; i++) {
-                // Remplacement des tirets spéciaux pour éviter les erreurs de parsing
-                String value = parts[i].trim().replace("–", "-").replace("−", "-");
-                distances[i - 1] = Integer.parseInt(value);
+            int[] distances = new int[values.length - offset];
+            for (int i = offset; i < values.length; i++) {
+                distances[i - offset] = Integer.parseInt(normalize(values[i]));
             }
             rows.add(distances);
         }
-        br.close();
-
-        int n = cityNames.size();
 
         // Détection automatique si le graphe est orienté (si la matrice n’est pas symétrique)
         boolean oriented = false;
@@ -129,9 +147,23 @@ public class FileHelper {
                     g.addEdge(i, j, row[j]);
                 }
             }
+            if (coordinates[i] != null) g.setCoordinates(i, coordinates[i][0], coordinates[i][1]);
         }
 
         return g;
     }
 
+    /**
+     * Remplace les tirets spéciaux (– et −) par un signe moins classique
+     * pour éviter les erreurs de parsing.
+     */
+    private static String normalize(String value) {
+        return value.trim().replace("–", "-").replace("−", "-");
+    }
+
+    /** Lit un nombre décimal (coordonnée), en acceptant la virgule comme séparateur. */
+    private static double parseDouble(String value) {
+        return Double.parseDouble(normalize(value).replace(',', '.'));
+    }
+
 }
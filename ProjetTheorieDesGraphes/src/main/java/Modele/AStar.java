@@ -0,0 +1,164 @@
+package Modele;
+
+import java.util.*;
+
+/**
+ * Implémentation de l’algorithme A*, variante de {@link Dijkstra} guidée vers la destination.
+ *
+ * Les sommets sont extraits du tas par ordre croissant de
+ * {@code f(v) = dist(v) + h(v)}, où {@code h} est une {@link Heuristic} admissible
+ * (borne inférieure de la distance restante). Plus l’heuristique est précise,
+ * moins l’algorithme explore de sommets éloignés de la direction du but.
+ *
+ * Heuristiques disponibles :
+ * - {@link GreatCircleHeuristic} : distance à vol d’oiseau entre les villes (coordonnées requises),
+ * - {@link Heuristic#zero()} : aucune estimation, A* équivaut alors à Dijkstra.
+ *
+ * Un sommet extrait du tas n’est jamais rouvert : l’heuristique doit donc aussi être
+ * cohérente ({@code h(u) ≤ w(u, v) + h(v)} pour chaque arc), ce que vérifient les
+ * heuristiques fournies.
+ *
+ * L’algorithme ne fonctionne que pour des graphes sans arêtes de poids négatif.
+ * Le texte produit reprend le format de {@link Dijkstra}, complété par le nombre
+ * de sommets explorés.
+ */
+public class AStar {
+
+    /** Liste représentant le chemin final trouvé par l’algorithme. */
+    private static List<Integer> finalPath = new ArrayList<>();
+
+    /** Nombre de sommets extraits du tas lors de la dernière recherche. */
+    private static int lastExpanded;
+
+    /**
+     * Retourne le chemin final calculé sous forme d’une liste d’indices de sommets.
+     *
+     * @return une nouvelle liste contenant les indices du plus court chemin
+     */
+    public static List<Integer> getFinalPath() {
+        return new ArrayList<>(finalPath);
+    }
+
+    /** @return nombre de sommets explorés lors de la dernière recherche */
+    public static int getLastExpanded() {
+        return lastExpanded;
+    }
+
+    /**
+     * Choisit l’heuristique la plus adaptée au graphe : distance orthodromique
+     * si toutes les villes ont des coordonnées, heuristique nulle sinon.
+     *
+     * @param g graphe à traiter
+     * @return heuristique admissible pour ce graphe
+     */
+    public static Heuristic defaultHeuristic(Graphe g) {
+        return g.hasCoordinates() ? new GreatCircleHeuristic(g) : Heuristic.zero();
+    }
+
+    /**
+     * Exécute A* entre deux sommets avec l’heuristique par défaut du graphe.
+     *
+     * @param g graphe sur lequel exécuter l’algorithme
+     * @param start indice du sommet source
+     * @param end indice du sommet destination
+     * @return une chaîne de caractères décrivant le résultat du calcul
+     * @throws IllegalArgumentException si le graphe contient une arête de poids négatif
+     */
+    public static String getResult(Graphe g, int start, int end) {
+        return getResult(g, start, end, defaultHeuristic(g));
+    }
+
+    /**
+     * Exécute A* entre deux sommets du graphe.
+     *
+     * @param g graphe sur lequel exécuter l’algorithme
+     * @param start indice du sommet source
+     * @param end indice du sommet destination
+     * @param h heuristique admissible et cohérente
+     * @return une chaîne de caractères décrivant le résultat du calcul
+     * @throws IllegalArgumentException si le graphe contient une arête de poids négatif
+     */
+    public static String getResult(Graphe g, int start, int end, Heuristic h) {
+        if (GraphManager.hasNegativeWeight(g))
+            throw new IllegalArgumentException("A* exige des poids positifs");
+        StringBuilder sb = new StringBuilder();
+        sb.append("Sommet de départ : ").append(g.getVertexName(start)).append("\n");
+        sb.append("Sommet d'arrivée : ").append(g.getVertexName(end)).append("\n\n");
+
+        List<Integer> path = new ArrayList<>();
+        long distance = shortestPath(g, start, end, h, path);
+
+        finalPath.clear();
+        sb.append("Sommets explorés : ").append(lastExpanded)
+                .append(" / ").append(g.getNbSommets()).append("\n");
+        if (distance == Dijkstra.INFINI) {
+            sb.append("Aucun chemin trouvé entre ")
+                    .append(g.getVertexName(start))
+                    .append(" et ")
+                    .append(g.getVertexName(end))
+                    .append(".\n");
+        } else {
+            finalPath.addAll(path);
+            List<String> names = new ArrayList<>();
+            for (int v : path) names.add(g.getVertexName(v));
+            sb.append("Distance minimale : ").append(distance).append("\n");
+            sb.append("Chemin le plus court : ").append(String.join(" → ", names)).append("\n");
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Calcule la distance et le plus court chemin entre deux sommets avec A*.
+     *
+     * @param g graphe à poids positifs
+     * @param start sommet source
+     * @param end sommet destination
+     * @param h heuristique admissible et cohérente
+     * @param path liste remplie avec les sommets du chemin (peut être null)
+     * @return distance minimale, ou {@link Dijkstra#INFINI} si end n’est pas atteignable
+     */
+    public static long shortestPath(Graphe g, int start, int end, Heuristic h, List<Integer> path) {
+        AdjacenceCSR csr = g.getCSR();
+        int n = csr.getNbSommets();
+
+        long[] dist = new long[n];
+        int[] parent = new int[n];
+        Arrays.fill(dist, Dijkstra.INFINI);
+        Arrays.fill(parent, -1);
+        dist[start] = 0;
+
+        IndexedMinHeap heap = new IndexedMinHeap(n);
+        boolean[] settled = new boolean[n];
+        heap.insertOrDecrease(start, h.lowerBound(start, end));
+        int expanded = 0;
+
+        while (!heap.isEmpty()) {
+            int u = heap.poll();
+            settled[u] = true;
+            expanded++;
+            if (u == end) break; // heuristique admissible : la distance de end est définitive
+
+            long du = dist[u];
+            for (int e = csr.firstArc(u); e < csr.endArc(u); e++) {
+                int v = csr.arcTarget(e);
+                if (settled[v]) continue; // heuristique cohérente : distance déjà définitive
+                long nd = du + csr.arcWeight(e);
+                if (nd < dist[v]) {
+                    dist[v] = nd;
+                    parent[v] = u;
+                    heap.insertOrDecrease(v, nd + h.lowerBound(v, end));
+                }
+            }
+        }
+        lastExpanded = expanded;
+
+        if (path != null) {
+            path.clear();
+            if (dist[end] != Dijkstra.INFINI) {
+                for (int v = end; v != -1; v = parent[v]) path.add(v);
+                Collections.reverse(path);
+            }
+        }
+        return dist[end];
+    }
+}
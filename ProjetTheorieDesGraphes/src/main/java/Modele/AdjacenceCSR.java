@@ -0,0 +1,253 @@
+package Modele;
+
+import java.util.Arrays;
+
+/**
+ * Représentation immuable des arêtes d’un graphe au format CSR (Compressed Sparse Row).
+ *
+ * Les arcs sortants du sommet u occupent les positions
+ * {@code offsets[u] .. offsets[u + 1] - 1} des tableaux {@code targets} et {@code weights}.
+ * Pour chaque sommet, les arcs sont triés par indice de cible croissant, ce qui permet :
+ * - de retrouver le poids d’une arête (u, v) par recherche dichotomique,
+ * - de parcourir les voisins dans le même ordre que les colonnes de la matrice d’adjacence.
+ *
+ * Un graphe non orienté est stocké avec ses deux sens (u → v et v → u).
+ *
+ * Parcours typique utilisé par les algorithmes :
+ *
+ * for (int e = csr.firstArc(u); e < csr.endArc(u); e++) {
+ *     int v = csr.arcTarget(e);
+ *     int w = csr.arcWeight(e);
+ * }
+ */
+public final class AdjacenceCSR implements GraphView {
+
+    /** Nombre de sommets. */
+    private final int n;
+
+    /** Indique si les arcs proviennent d’un graphe orienté. */
+    private final boolean directed;
+
+    /** offsets[u] = position du premier arc sortant de u (taille n + 1). */
+    private final int[] offsets;
+
+    /** Sommet d’arrivée de chaque arc. */
+    private final int[] targets;
+
+    /** Poids de chaque arc. */
+    private final int[] weights;
+
+    /** Plus petit et plus grand poids d’arc (0 si le graphe n’a aucun arc). */
+    private final int minWeight, maxWeight;
+
+    /**
+     * Constructeur interne : les tableaux sont supposés déjà triés par ligne.
+     *
+     * @param n nombre de sommets
+     * @param directed true si le graphe est orienté
+     * @param offsets positions de début de chaque ligne (taille n + 1)
+     * @param targets cibles des arcs
+     * @param weights poids des arcs
+     */
+    private AdjacenceCSR(int n, boolean directed, int[] offsets, int[] targets, int[] weights) {
+        this.n = n;
+        this.directed = directed;
+        this.offsets = offsets;
+        this.targets = targets;
+        this.weights = weights;
+        int min = 0, max = 0;
+        for (int i = 0; i < weights.length; i++) {
+            if (i == 0 || weights[i] < min) min = weights[i];
+            if (i == 0 || weights[i] > max) max = weights[i];
+        }
+        this.minWeight = min;
+        this.maxWeight = max;
+    }
+
+    /**
+     * Construit la représentation CSR à partir d’une matrice d’adjacence
+     * (0 = absence d’arête).
+     *
+     * @param mat matrice d’adjacence carrée
+     * @param directed true si le graphe est orienté
+     * @return représentation CSR équivalente
+     */
+    static AdjacenceCSR fromMatrix(int[][] mat, boolean directed) {
+        int n = mat.length;
+        int[] offsets = new int[n + 1];
+        for (int i = 0; i < n; i++) {
+            int deg = 0;
+            for (int j = 0; j < n; j++) if (mat[i][j] != 0) deg++;
+            offsets[i + 1] = offsets[i] + deg;
+        }
+
+        int[] targets = new int[offsets[n]];
+        int[] weights = new int[offsets[n]];
+        for (int i = 0; i < n; i++) {
+            int pos = offsets[i];
+            for (int j = 0; j < n; j++) {
+                if (mat[i][j] != 0) {
+                    targets[pos] = j;
+                    weights[pos] = mat[i][j];
+                    pos++;
+                }
+            }
+        }
+        return new AdjacenceCSR(n, directed, offsets, targets, weights);
+    }
+
+    /**
+     * Construit la représentation CSR à partir de listes d’adjacence non triées.
+     *
+     * @param n nombre de sommets
+     * @param directed true si le graphe est orienté
+     * @param listTargets listTargets[u] = cibles des arcs sortants de u (peut être null)
+     * @param listWeights listWeights[u] = poids associés
+     * @param sizes sizes[u] = nombre d’arcs valides dans les listes de u
+     * @return représentation CSR avec des lignes triées par cible
+     */
+    static AdjacenceCSR fromLists(int n, boolean directed, int[][] listTargets, int[][] listWeights, int[] sizes) {
+        int[] offsets = new int[n + 1];
+        for (int u = 0; u < n; u++) offsets[u + 1] = offsets[u] + sizes[u];
+
+        int[] targets = new int[offsets[n]];
+        int[] weights = new int[offsets[n]];
+        long[] row = new long[0];
+        for (int u = 0; u < n; u++) {
+            int size = sizes[u];
+            if (size == 0) continue;
+
+            // Tri de la ligne : cible dans les 32 bits de poids fort, poids dans les 32 bits faibles
+            if (row.length < size) row = new long[Math.max(size, row.length * 2)];
+            for (int i = 0; i < size; i++) {
+                row[i] = ((long) listTargets[u][i] << 32) | (listWeights[u][i] & 0xFFFFFFFFL);
+            }
+            Arrays.sort(row, 0, size);
+
+            int pos = offsets[u];
+            for (int i = 0; i < size; i++) {
+                targets[pos + i] = (int) (row[i] >>> 32);
+                weights[pos + i] = (int) row[i];
+            }
+        }
+        return new AdjacenceCSR(n, directed, offsets, targets, weights);
+    }
+
+    /**
+     * Construit la représentation CSR du graphe transposé (arcs inversés).
+     * Les lignes restent triées, car les sources sont parcourues par indice croissant.
+     *
+     * @return arcs v → u pour chaque arc u → v
+     */
+    AdjacenceCSR transpose() {
+        int[] tOffsets = new int[n + 1];
+        for (int e = 0; e < targets.length; e++) tOffsets[targets[e] + 1]++;
+        for (int v = 0; v < n; v++) tOffsets[v + 1] += tOffsets[v];
+
+        int[] next = Arrays.copyOf(tOffsets, n);
+        int[] tTargets = new int[targets.length];
+        int[] tWeights = new int[targets.length];
+        for (int u = 0; u < n; u++) {
+            for (int e = offsets[u]; e < offsets[u + 1]; e++) {
+                int pos = next[targets[e]]++;
+                tTargets[pos] = u;
+                tWeights[pos] = weights[e];
+            }
+        }
+        return new AdjacenceCSR(n, directed, tOffsets, tTargets, tWeights);
+    }
+
+    /** @return nombre de sommets */
+    @Override
+    public int getNbSommets() {
+        return n;
+    }
+
+    /** @return true si le graphe d’origine est orienté */
+    @Override
+    public boolean isOriented() {
+        return directed;
+    }
+
+    /** @return nombre total d’arcs stockés (une arête non orientée compte deux fois) */
+    public int getNbArcs() {
+        return targets.length;
+    }
+
+    /** @return plus petit poids d’arc (0 si le graphe n’a aucun arc) */
+    public int minWeight() {
+        return minWeight;
+    }
+
+    /** @return plus grand poids d’arc (0 si le graphe n’a aucun arc) */
+    public int maxWeight() {
+        return maxWeight;
+    }
+
+    /**
+     * @param u sommet source
+     * @return position du premier arc sortant de u
+     */
+    public int firstArc(int u) {
+        return offsets[u];
+    }
+
+    /**
+     * @param u sommet source
+     * @return position suivant le dernier arc sortant de u
+     */
+    public int endArc(int u) {
+        return offsets[u + 1];
+    }
+
+    /**
+     * @param e position d’un arc
+     * @return sommet d’arrivée de l’arc
+     */
+    public int arcTarget(int e) {
+        return targets[e];
+    }
+
+    /**
+     * @param e position d’un arc
+     * @return poids de l’arc
+     */
+    public int arcWeight(int e) {
+        return weights[e];
+    }
+
+    /**
+     * @param u sommet
+     * @return nombre d’arcs sortants de u
+     */
+    @Override
+    public int degree(int u) {
+        return offsets[u + 1] - offsets[u];
+    }
+
+    /**
+     * Retourne le poids de l’arc (u, v) par recherche dichotomique dans la ligne de u.
+     *
+     * @param u sommet source
+     * @param v sommet destination
+     * @return poids de l’arc, ou 0 s’il n’existe pas
+     */
+    @Override
+    public int weight(int u, int v) {
+        int pos = Arrays.binarySearch(targets, offsets[u], offsets[u + 1], v);
+        return pos >= 0 ? weights[pos] : 0;
+    }
+
+    /**
+     * Appelle {@code action} pour chaque arc sortant de u, par cible croissante.
+     *
+     * @param u sommet source
+     * @param action traitement appliqué à chaque voisin
+     */
+    @Override
+    public void forEachNeighbor(int u, NeighborConsumer action) {
+        for (int e = offsets[u]; e < offsets[u + 1]; e++) {
+            action.accept(targets[e], weights[e]);
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package Modele;
+
+import java.util.*;
+
+/**
+ * Résultat d’un calcul de plus courts chemins entre toutes les paires de sommets.
+ *
+ * Les deux matrices n × n sont stockées à plat, ligne par ligne, dans des tableaux
+ * primitifs :
+ * - {@code dist[i * n + j]} = distance minimale de i à j ({@link Dijkstra#INFINI} si aucun chemin),
+ * - {@code pred[i * n + j]} = prédécesseur de j sur le plus court chemin depuis i
+ *   (-1 si j = i ou si j n’est pas atteignable), comme la matrice P de {@link FloydWarshall}.
+ *
+ * L’objet est immuable ; il est produit par {@link Johnson}, par
+ * {@link FloydWarshall#allPairs(Graphe)} ou par {@link AllPairsShortestPaths}.
+ */
+public final class AllPairsResult {
+
+    /** Nombre de sommets. */
+    private final int n;
+
+    /** Distances minimales, ligne par ligne. */
+    private final long[] dist;
+
+    /** Prédécesseurs, ligne par ligne. */
+    private final int[] pred;
+
+    /**
+     * Constructeur interne : les tableaux appartiennent ensuite au résultat.
+     *
+     * @param n nombre de sommets
+     * @param dist distances (taille n²)
+     * @param pred prédécesseurs (taille n²)
+     */
+    AllPairsResult(int n, long[] dist, int[] pred) {
+        this.n = n;
+        this.dist = dist;
+        this.pred = pred;
+    }
+
+    /**
+     * Nombre de cases des matrices à plat pour n sommets. Les indices i * n + j sont
+     * calculés en {@code int} : ils ne débordent pas tant que n² tient dans un {@code int}.
+     *
+     * @param n nombre de sommets
+     * @return n²
+     * @throws IllegalArgumentException si n² dépasse {@link Integer#MAX_VALUE}
+     */
+    static int cells(int n) {
+        if ((long) n * n > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Graphe trop grand pour une matrice de distances à plat : "
+                    + n + " sommets (au plus 46340)");
+        }
+        return n * n;
+    }
+
+    /** @return nombre de sommets */
+    public int getNbSommets() {
+        return n;
+    }
+
+    /**
+     * @param i sommet de départ
+     * @param j sommet d’arrivée
+     * @return distance minimale de i à j, ou {@link Dijkstra#INFINI} s’il n’existe aucun chemin
+     */
+    public long distance(int i, int j) {
+        return dist[i * n + j];
+    }
+
+    /**
+     * @param i sommet de départ
+     * @param j sommet d’arrivée
+     * @return true s’il existe un chemin de i à j
+     */
+    public boolean hasPath(int i, int j) {
+        return dist[i * n + j] != Dijkstra.INFINI;
+    }
+
+    /**
+     * @param i sommet de départ
+     * @param j sommet d’arrivée
+     * @return prédécesseur de j sur le plus court chemin depuis i, ou -1
+     */
+    public int predecessor(int i, int j) {
+        return pred[i * n + j];
+    }
+
+    /**
+     * Reconstruit le plus court chemin de i à j en remontant les prédécesseurs.
+     *
+     * @param i sommet de départ
+     * @param j sommet d’arrivée
+     * @return liste des sommets du chemin (vide s’il n’existe aucun chemin)
+     */
+    public List<Integer> path(int i, int j) {
+        List<Integer> path = new ArrayList<>();
+        if (!hasPath(i, j)) return path;
+        int row = i * n;
+        for (int v = j; v != -1 && path.size() <= n; v = (v == i) ? -1 : pred[row + v]) path.add(v);
+        Collections.reverse(path);
+        return path;
+    }
+
+    /** @return copie du tableau plat des distances */
+    public long[] getDistances() {
+        return dist.clone();
+    }
+
+    /** @return copie du tableau plat des prédécesseurs */
+    public int[] getPredecessors() {
+        return pred.clone();
+    }
+}
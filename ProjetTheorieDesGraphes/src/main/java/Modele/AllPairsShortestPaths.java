@@ -0,0 +1,65 @@
+package Modele;
+
+/**
+ * Point d’entrée des calculs de plus courts chemins entre toutes les paires de sommets.
+ *
+ * Le moteur est choisi selon la densité du graphe :
+ * - {@link Engine#JOHNSON} en O(n·m·log n) pour les graphes peu denses,
+ * - {@link Engine#FLOYD_WARSHALL} en O(n³) pour les graphes denses, où ses boucles
+ *   simples sur des tableaux contigus sont plus rapides que n Dijkstra.
+ *
+ * Exemple :
+ *
+ * AllPairsResult apsp = AllPairsShortestPaths.compute(g);
+ * long d = apsp.distance(paris, lyon);
+ */
+public final class AllPairsShortestPaths {
+
+    /** Moteur de calcul. */
+    public enum Engine {
+        /** Repondération puis un Dijkstra par source ({@link Johnson}). */
+        JOHNSON,
+
+        /** Programmation dynamique sur les sommets intermédiaires ({@link FloydWarshall}). */
+        FLOYD_WARSHALL
+    }
+
+    private AllPairsShortestPaths() {
+    }
+
+    /**
+     * Choisit Johnson lorsque m·log₂(n) &lt; n², c’est-à-dire lorsque n Dijkstra
+     * coûtent moins que les n³ opérations de Floyd-Warshall.
+     *
+     * @param g graphe à traiter
+     * @return moteur le plus adapté
+     */
+    public static Engine select(Graphe g) {
+        AdjacenceCSR csr = g.getCSR();
+        long n = csr.getNbSommets();
+        long m = csr.getNbArcs();
+        long log = 64 - Long.numberOfLeadingZeros(Math.max(1, n));
+        return m * log < n * n ? Engine.JOHNSON : Engine.FLOYD_WARSHALL;
+    }
+
+    /**
+     * Calcule tous les plus courts chemins avec le moteur choisi par {@link #select(Graphe)}.
+     *
+     * @param g graphe à traiter (poids négatifs acceptés)
+     * @return distances et prédécesseurs, ou null si le graphe contient un cycle absorbant
+     */
+    public static AllPairsResult compute(Graphe g) {
+        return compute(g, select(g));
+    }
+
+    /**
+     * Calcule tous les plus courts chemins avec un moteur donné.
+     *
+     * @param g graphe à traiter (poids négatifs acceptés)
+     * @param engine moteur à utiliser
+     * @return distances et prédécesseurs, ou null si le graphe contient un cycle absorbant
+     */
+    public static AllPairsResult compute(Graphe g, Engine engine) {
+        return engine == Engine.JOHNSON ? new Johnson().compute(g) : FloydWarshall.allPairs(g);
+    }
+}
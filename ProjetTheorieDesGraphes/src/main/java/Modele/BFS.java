@@ -52,7 +52,7 @@ public class BFS {
     public String getResult(Graphe graphe, int startNode) {
         StringBuilder sb = new StringBuilder();
 
-        int[][] matrice = graphe.getMatrix();
+        AdjacenceCSR csr = graphe.getCSR();
         String[] noms = getVertexNames(graphe);
 
         // Réinitialisation des structures avant chaque exécution
@@ -76,8 +76,9 @@ public class BFS {
 
             // Recherche des voisins non encore visités
             List<Voisin> voisins = new ArrayList<>();
-            for (int j = 0; j < matrice[node].length; j++) {
-                int poids = matrice[node][j];
+            for (int e = csr.firstArc(node); e < csr.endArc(node); e++) {
+                int j = csr.arcTarget(e);
+                int poids = csr.arcWeight(e);
                 if (poids > 0 && !visited.contains(j)) {
                     voisins.add(new Voisin(j, poids));
                 }
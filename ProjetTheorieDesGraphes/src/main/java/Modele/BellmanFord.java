@@ -8,7 +8,9 @@ import java.util.*;
  * d’un graphe pondéré pouvant contenir des arêtes à poids négatif.
  *
  * L’algorithme repose sur la relaxation successive de toutes les arêtes
- * pendant n-1 itérations (où n est le nombre de sommets).
+ * pendant au plus n-1 itérations (où n est le nombre de sommets) ; il s’arrête
+ * plus tôt dès qu’une itération ne modifie plus aucune distance.
+ * Voir {@link SPFA} pour une variante qui ne relâche que les arcs utiles.
  * Il est également capable de détecter la présence de cycles absorbants
  * (cycles dont la somme des poids est négative).
  *
@@ -45,7 +47,7 @@ public class BellmanFord {
      *         et le résultat de l’algorithme
      */
     public String run(Graphe g, String sourceName, String destName) {
-        int n = g.getMatrix().length;
+        int n = g.getNbSommets();
         String[] noms = new String[n];
         for (int i = 0; i < n; i++) noms[i] = g.getVertexName(i);
 
@@ -78,8 +80,8 @@ public class BellmanFord {
      * @return une chaîne contenant le déroulement de l’algorithme et son résultat
      */
     public String getResult(Graphe g, int start, int end) {
-        int n = g.getMatrix().length;
-        int[][] mat = g.getMatrix();
+        AdjacenceCSR csr = g.getCSR();
+        int n = csr.getNbSommets();
         String[] noms = new String[n];
         for (int i = 0; i < n; i++) noms[i] = g.getVertexName(i);
 
@@ -97,10 +99,12 @@ public class BellmanFord {
             sb.append("=== Étape k = ").append(k).append(" ===\n");
 
             for (int u = 0; u < n; u++) {
-                for (int v = 0; v < n; v++) {
-                    // Si une arête (u, v) existe et qu’elle améliore la distance actuelle
-                    if (mat[u][v] != 0 && dist[u] + mat[u][v] < dist[v]) {
-                        dist[v] = dist[u] + mat[u][v];
+                for (int e = csr.firstArc(u); e < csr.endArc(u); e++) {
+                    int v = csr.arcTarget(e);
+                    int w = csr.arcWeight(e);
+                    // Si l’arête (u, v) améliore la distance actuelle
+                    if (dist[u] + w < dist[v]) {
+                        dist[v] = dist[u] + w;
                         pere[v] = u;
                         change = true;
                         sb.append("Mise à jour : dist[").append(noms[v]).append("] = ").append((int) dist[v])
@@ -109,15 +113,22 @@ public class BellmanFord {
                 }
             }
 
-            if (!change) sb.append("Aucune mise à jour à cette étape.\n");
+            if (!change) {
+                // Plus aucune distance ne bouge : les étapes suivantes seraient identiques
+                sb.append("Aucune mise à jour à cette étape : les distances sont définitives.\n\n");
+                break;
+            }
             sb.append("\n");
         }
 
         // --- Détection de cycle absorbant (poids négatif) ---
         for (int u = 0; u < n; u++) {
-            for (int v = 0; v < n; v++) {
-                if (mat[u][v] != 0 && dist[u] + mat[u][v] < dist[v]) {
+            for (int e = csr.firstArc(u); e < csr.endArc(u); e++) {
+                if (dist[u] + csr.arcWeight(e) < dist[csr.arcTarget(e)]) {
                     sb.append("Le graphe contient un cycle absorbant (poids négatif).\n");
+                    NegativeCycle cycle = NegativeCycle.find(g, start);
+                    if (cycle != null) sb.append("Cycle : ").append(cycle.describe(g)).append("\n");
+                    finalPath.clear();
                     return sb.toString();
                 }
             }
@@ -0,0 +1,150 @@
+package Modele;
+
+import java.util.*;
+
+/**
+ * Implémentation de l’algorithme de Dijkstra bidirectionnel.
+ *
+ * Deux recherches sont menées simultanément :
+ * - une recherche avant depuis le sommet de départ, sur les arcs du graphe,
+ * - une recherche arrière depuis le sommet d’arrivée, sur les arcs inversés.
+ *
+ * À chaque étape, on avance la recherche dont le prochain sommet est le plus proche.
+ * Chaque fois qu’un arc relie les deux zones explorées, on met à jour la meilleure
+ * distance connue {@code mu}. La recherche s’arrête dès que la somme des deux plus
+ * petites clés des tas dépasse {@code mu} : aucun chemin plus court ne peut plus exister.
+ *
+ * Sur un réseau routier, chaque recherche explore un « disque » de rayon environ
+ * moitié de celui de Dijkstra classique, soit nettement moins de sommets.
+ *
+ * L’algorithme ne fonctionne que pour des graphes sans arêtes de poids négatif.
+ * Le format du texte produit est le même que celui de {@link Dijkstra}.
+ */
+public class BidirectionalDijkstra {
+
+    /** Liste représentant le chemin final trouvé par l’algorithme. */
+    private static List<Integer> finalPath = new ArrayList<>();
+
+    /**
+     * Retourne le chemin final calculé sous forme d’une liste d’indices de sommets.
+     *
+     * @return une nouvelle liste contenant les indices du plus court chemin
+     */
+    public static List<Integer> getFinalPath() {
+        return new ArrayList<>(finalPath);
+    }
+
+    /**
+     * Exécute Dijkstra bidirectionnel entre deux sommets du graphe.
+     *
+     * @param g graphe sur lequel exécuter l’algorithme
+     * @param start indice du sommet source
+     * @param end indice du sommet destination
+     * @return une chaîne de caractères décrivant le résultat du calcul
+     */
+    public static String getResult(Graphe g, int start, int end) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("Sommet de départ : ").append(g.getVertexName(start)).append("\n");
+        sb.append("Sommet d'arrivée : ").append(g.getVertexName(end)).append("\n\n");
+
+        List<Integer> path = new ArrayList<>();
+        long distance = shortestPath(g, start, end, path);
+
+        finalPath.clear();
+        if (distance == Dijkstra.INFINI) {
+            sb.append("Aucun chemin trouvé entre ")
+                    .append(g.getVertexName(start))
+                    .append(" et ")
+                    .append(g.getVertexName(end))
+                    .append(".\n");
+        } else {
+            finalPath.addAll(path);
+            List<String> names = new ArrayList<>();
+            for (int v : path) names.add(g.getVertexName(v));
+            sb.append("Distance minimale : ").append(distance).append("\n");
+            sb.append("Chemin le plus court : ").append(String.join(" → ", names)).append("\n");
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Calcule la distance et le plus court chemin entre deux sommets.
+     *
+     * @param g graphe à poids positifs
+     * @param start sommet source
+     * @param end sommet destination
+     * @param path liste remplie avec les sommets du chemin (peut être null)
+     * @return distance minimale, ou {@link Dijkstra#INFINI} si end n’est pas atteignable
+     */
+    public static long shortestPath(Graphe g, int start, int end, List<Integer> path) {
+        AdjacenceCSR fwd = g.getCSR();
+        AdjacenceCSR bwd = g.getReverseCSR();
+        int n = fwd.getNbSommets();
+
+        if (path != null) path.clear();
+        if (start == end) {
+            if (path != null) path.add(start);
+            return 0;
+        }
+
+        long[] distF = new long[n], distB = new long[n];
+        int[] parentF = new int[n], parentB = new int[n];
+        boolean[] settledF = new boolean[n], settledB = new boolean[n];
+        Arrays.fill(distF, Dijkstra.INFINI);
+        Arrays.fill(distB, Dijkstra.INFINI);
+        Arrays.fill(parentF, -1);
+        Arrays.fill(parentB, -1);
+
+        IndexedMinHeap heapF = new IndexedMinHeap(n);
+        IndexedMinHeap heapB = new IndexedMinHeap(n);
+        distF[start] = 0;
+        distB[end] = 0;
+        heapF.insertOrDecrease(start, 0);
+        heapB.insertOrDecrease(end, 0);
+
+        long mu = Dijkstra.INFINI; // meilleure distance trouvée
+        int meet = -1;             // sommet de jonction du meilleur chemin
+
+        while (!heapF.isEmpty() && !heapB.isEmpty()) {
+            // Critère d’arrêt : aucun chemin passant par des sommets non traités n’est plus court
+            if (heapF.peekKey() + heapB.peekKey() >= mu) break;
+
+            boolean forward = heapF.peekKey() <= heapB.peekKey();
+            AdjacenceCSR csr = forward ? fwd : bwd;
+            IndexedMinHeap heap = forward ? heapF : heapB;
+            long[] dist = forward ? distF : distB;
+            long[] other = forward ? distB : distF;
+            int[] parent = forward ? parentF : parentB;
+            boolean[] settled = forward ? settledF : settledB;
+
+            int u = heap.poll();
+            settled[u] = true;
+            long du = dist[u];
+
+            for (int e = csr.firstArc(u); e < csr.endArc(u); e++) {
+                int v = csr.arcTarget(e);
+                if (settled[v]) continue;
+                long nd = du + csr.arcWeight(e);
+                if (nd < dist[v]) {
+                    dist[v] = nd;
+                    parent[v] = u;
+                    heap.insertOrDecrease(v, nd);
+                }
+                // Jonction des deux recherches par l’arc (u, v)
+                if (other[v] != Dijkstra.INFINI && dist[v] + other[v] < mu) {
+                    mu = dist[v] + other[v];
+                    meet = v;
+                }
+            }
+        }
+
+        if (meet == -1 || path == null) return mu;
+
+        // Chemin avant : start → meet
+        for (int v = meet; v != -1; v = parentF[v]) path.add(v);
+        Collections.reverse(path);
+        // Chemin arrière : meet → end (parentB pointe vers le sommet suivant)
+        for (int v = parentB[meet]; v != -1; v = parentB[v]) path.add(v);
+        return mu;
+    }
+}
@@ -0,0 +1,213 @@
+package Modele;
+
+import java.util.Arrays;
+import java.util.concurrent.CancellationException;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Floyd-Warshall par blocs (« tiled ») sur des tableaux plats.
+ *
+ * Les matrices n × n des distances ({@code long}) et des prédécesseurs ({@code int})
+ * sont stockées ligne par ligne dans un seul tableau chacune, et découpées en blocs
+ * de {@link #BLOCK} × {@link #BLOCK} cases (32 Ko de distances, 16 Ko de
+ * prédécesseurs), qui tiennent dans les caches L1/L2. Pour chaque bloc diagonal kb :
+ * 1. le bloc (kb, kb) est traité seul, avec k parcourant ses propres indices ;
+ * 2. les blocs de la ligne kb et de la colonne kb sont mis à jour à partir de lui ;
+ * 3. tous les autres blocs (i, j) sont mis à jour à partir des blocs (i, kb) et (kb, j).
+ * Chaque phase relit des blocs déjà en cache, au lieu de parcourir toute la
+ * matrice pour chaque k comme la boucle k-i-j classique.
+ *
+ * Les blocs d’une même phase 2 ou 3 n’écrivent que dans leur propre bloc et ne
+ * lisent que des blocs qui ne changent pas pendant la phase : ils sont répartis
+ * sur le {@link java.util.concurrent.ForkJoinPool} commun. Seule la phase 1 reste séquentielle.
+ *
+ * L’absence de chemin est représentée par {@link #INF} = Long.MAX_VALUE / 4 : la
+ * somme de deux « infinis » ne déborde pas, ce qui évite un test par case dans la
+ * boucle interne. Toute valeur supérieure à INF / 2 est considérée comme infinie et
+ * remplacée par {@link Dijkstra#INFINI} dans le résultat final. La mise à jour des
+ * prédécesseurs est celle de {@link FloydWarshall} : P[i][j] ← P[k][j].
+ *
+ * La boucle interne (une ligne de bloc) est confiée à {@link MinPlusKernel}, qui
+ * utilise l’API Vector si le module {@code jdk.incubator.vector} est chargé, et une
+ * boucle scalaire sinon ; les deux donnent exactement les mêmes matrices.
+ */
+public final class BlockedFloydWarshall {
+
+    /** Côté d’un bloc. */
+    static final int BLOCK = 64;
+
+    /** Valeur utilisée pendant le calcul pour l’absence de chemin. */
+    static final long INF = Long.MAX_VALUE / 4;
+
+    /** Seuil au-delà duquel une distance est considérée comme infinie. */
+    static final long INF_THRESHOLD = INF / 2;
+
+    private BlockedFloydWarshall() {
+    }
+
+    /**
+     * Calcule toutes les distances du graphe.
+     *
+     * @param g graphe à traiter (poids négatifs acceptés)
+     * @return distances et prédécesseurs, ou null si le graphe contient un cycle absorbant
+     */
+    public static AllPairsResult compute(Graphe g) {
+        return compute(g, isVectorAvailable());
+    }
+
+    /**
+     * Calcule toutes les distances du graphe en choisissant le noyau de la boucle interne.
+     *
+     * @param g graphe à traiter (poids négatifs acceptés)
+     * @param vectorized true pour utiliser l’API Vector (ignoré si elle n’est pas disponible)
+     * @return distances et prédécesseurs, ou null si le graphe contient un cycle absorbant
+     * @throws IllegalArgumentException si n² dépasse la taille d’un tableau
+     */
+    public static AllPairsResult compute(Graphe g, boolean vectorized) {
+        GraphView view = g.getView();
+        int n = view.getNbSommets();
+        int cells = AllPairsResult.cells(n);
+        long[] dist = new long[cells];
+        int[] pred = new int[cells];
+        initialize(view, dist, pred);
+        return solve(n, dist, pred, vectorized) ? new AllPairsResult(n, dist, pred) : null;
+    }
+
+    /** @return true si le noyau vectorisé est utilisable (module chargé, au moins deux voies 64 bits) */
+    public static boolean isVectorAvailable() {
+        return MinPlusKernel.VECTOR_AVAILABLE;
+    }
+
+    /**
+     * Remplit les matrices initiales : poids des arcs, 0 sur la diagonale, {@link #INF} ailleurs.
+     *
+     * @param view graphe à traiter
+     * @param dist distances (taille n²), remplies par la méthode
+     * @param pred prédécesseurs (taille n²), remplis par la méthode
+     */
+    static void initialize(GraphView view, long[] dist, int[] pred) {
+        int n = view.getNbSommets();
+        Arrays.fill(dist, INF);
+        Arrays.fill(pred, -1);
+        for (int u = 0; u < n; u++) {
+            final int row = u * n;
+            final int from = u;
+            view.forEachNeighbor(u, (v, poids) -> {
+                dist[row + v] = poids;
+                pred[row + v] = from;
+            });
+            dist[row + u] = 0;
+        }
+    }
+
+    /**
+     * Exécute les trois phases pour chaque bloc diagonal, puis remplace les
+     * valeurs infinies par {@link Dijkstra#INFINI}.
+     *
+     * Le calcul s’arrête dès qu’une distance d(i, i) du bloc diagonal devient négative
+     * après la phase 1 : avec un cycle absorbant, les distances décroissent sans borne
+     * et finiraient par déborder des {@code long} si les phases suivantes continuaient.
+     *
+     * @param n nombre de sommets
+     * @param dist distances initiales, remplacées par les distances minimales
+     * @param pred prédécesseurs initiaux, remplacés par les prédécesseurs finaux
+     * @param vectorized true pour utiliser le noyau vectorisé (si disponible)
+     * @return false si un cycle absorbant a été détecté (diagonale négative)
+     */
+    static boolean solve(int n, long[] dist, int[] pred, boolean vectorized) {
+        return solve(n, dist, pred, vectorized, () -> false);
+    }
+
+    /**
+     * Variante interruptible de {@link #solve(int, long[], int[], boolean)} : la condition
+     * est consultée avant chaque bloc diagonal.
+     *
+     * @param cancelled condition d’annulation
+     * @throws CancellationException si la condition devient vraie pendant le calcul
+     */
+    static boolean solve(int n, long[] dist, int[] pred, boolean vectorized, BooleanSupplier cancelled) {
+        int nbBlocks = (n + BLOCK - 1) / BLOCK;
+        for (int kb = 0; kb < nbBlocks; kb++) {
+            if (cancelled.getAsBoolean()) throw new CancellationException("Calcul de Floyd-Warshall annulé");
+            // Phase 1 : bloc diagonal
+            relaxBlocks(dist, pred, n, kb, kb, kb, vectorized);
+            if (negativeDiagonal(dist, n, kb)) {
+                finish(n, dist, pred);
+                return false;
+            }
+
+            if (nbBlocks == 1) break;
+            final int k = kb;
+            int others = nbBlocks - 1;
+
+            // Phase 2 : ligne et colonne du bloc diagonal (2 × (nbBlocks - 1) blocs indépendants)
+            ParallelFor.range(0, 2 * others, 1, (from, to) -> {
+                for (int t = from; t < to; t++) {
+                    int b = t % others;
+                    if (b >= k) b++;
+                    if (t < others) relaxBlocks(dist, pred, n, k, b, k, vectorized);
+                    else relaxBlocks(dist, pred, n, b, k, k, vectorized);
+                }
+            });
+
+            // Phase 3 : blocs restants ((nbBlocks - 1)² blocs indépendants)
+            ParallelFor.range(0, others * others, 1, (from, to) -> {
+                for (int t = from; t < to; t++) {
+                    int ib = t / others, jb = t % others;
+                    if (ib >= k) ib++;
+                    if (jb >= k) jb++;
+                    relaxBlocks(dist, pred, n, ib, jb, k, vectorized);
+                }
+            });
+        }
+        return finish(n, dist, pred);
+    }
+
+    /**
+     * Tout cycle absorbant rend négative la diagonale de son sommet de plus grand indice
+     * dès la phase 1 du bloc qui le contient : il suffit d’examiner le bloc diagonal.
+     *
+     * @return true si une distance d(i, i) du bloc diagonal kb est négative
+     */
+    private static boolean negativeDiagonal(long[] dist, int n, int kb) {
+        int i1 = Math.min((kb + 1) * BLOCK, n);
+        for (int i = kb * BLOCK; i < i1; i++) if (dist[i * n + i] < 0) return true;
+        return false;
+    }
+
+    /**
+     * Met à jour le bloc (ib, jb) avec les sommets intermédiaires du bloc kb.
+     * La boucle sur k est la plus externe : les phases 1 et 2, où le bloc lu
+     * est aussi celui que l’on écrit, restent correctes.
+     */
+    static void relaxBlocks(long[] dist, int[] pred, int n, int ib, int jb, int kb, boolean vectorized) {
+        int i0 = ib * BLOCK, i1 = Math.min(i0 + BLOCK, n);
+        int j0 = jb * BLOCK, j1 = Math.min(j0 + BLOCK, n);
+        int k0 = kb * BLOCK, k1 = Math.min(k0 + BLOCK, n);
+        for (int k = k0; k < k1; k++) {
+            int rowK = k * n;
+            for (int i = i0; i < i1; i++) {
+                int rowI = i * n;
+                long dik = dist[rowI + k];
+                if (dik >= INF_THRESHOLD) continue;
+                MinPlusKernel.relaxRow(dist, pred, rowI, rowK, j0, j1, dik, vectorized);
+            }
+        }
+    }
+
+    /**
+     * Normalise les valeurs infinies et vérifie la diagonale.
+     *
+     * @return false si une distance d(i, i) est négative (cycle absorbant)
+     */
+    static boolean finish(int n, long[] dist, int[] pred) {
+        for (int c = 0; c < n * n; c++) {
+            if (dist[c] >= INF_THRESHOLD) {
+                dist[c] = Dijkstra.INFINI;
+                pred[c] = -1;
+            }
+        }
+        for (int i = 0; i < n; i++) if (dist[i * n + i] < 0) return false;
+        return true;
+    }
+}
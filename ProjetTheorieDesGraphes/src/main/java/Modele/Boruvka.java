@@ -0,0 +1,142 @@
+package Modele;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Algorithme de Borůvka parallèle : forêt couvrante minimale.
+ *
+ * Chaque tour :
+ * 1. chaque arête reliant deux composantes différentes propose sa clé aux deux
+ *    composantes ; la clé est le couple (poids, indice de l’arête) regroupé dans un
+ *    {@code long}, et chaque composante garde la plus petite par un minimum atomique
+ *    (compareAndSet) — cette étape, qui parcourt toutes les arêtes, est parallèle ;
+ * 2. l’arête minimale de chaque composante est ajoutée à la forêt et les composantes
+ *    sont fusionnées ({@link UnionFind}) ;
+ * 3. chaque sommet reçoit l’étiquette de sa nouvelle composante, et les arêtes
+ *    devenues internes sont retirées (en parallèle, par morceaux).
+ * Le nombre de composantes au moins est divisé par deux à chaque tour : il y a au
+ * plus log₂(n) tours. Le calcul s’arrête quand plus aucune arête ne relie deux
+ * composantes, ce qui donne une forêt (un arbre par composante connexe) pour un
+ * graphe non connexe.
+ *
+ * L’ordre (poids, indice) étant total, aucun cycle ne peut se former et le résultat
+ * est exactement l’arbre de {@link Kruskal#compute(Graphe)}.
+ */
+public final class Boruvka {
+
+    /** Nombre d’arêtes traitées séquentiellement par une tâche parallèle. */
+    private static final int GRAIN = 1 << 12;
+
+    /** Taille des morceaux compactés indépendamment lors du retrait des arêtes internes. */
+    private static final int CHUNK = 1 << 14;
+
+    /** Clé d’une composante sans arête sortante. */
+    private static final long NONE = Long.MAX_VALUE;
+
+    private Boruvka() {
+    }
+
+    /**
+     * Calcule la forêt couvrante minimale.
+     *
+     * @param g graphe pondéré non orienté (éventuellement non connexe)
+     * @return arêtes retenues et coût total (mêmes arêtes que {@link Kruskal#compute(Graphe)})
+     */
+    public static SpanningTree compute(Graphe g) {
+        AdjacenceCSR csr = g.getCSR();
+        int n = csr.getNbSommets();
+        EdgeList edges = EdgeList.of(csr);
+
+        // comp[v] = étiquette (sommet représentant) de la composante de v
+        int[] comp = new int[n];
+        int[] roots = new int[n];
+        for (int v = 0; v < n; v++) comp[v] = roots[v] = v;
+        int nbRoots = n;
+
+        int[] active = new int[edges.m];
+        for (int k = 0; k < edges.m; k++) active[k] = k;
+        int nbActive = edges.m;
+
+        AtomicLongArray best = new AtomicLongArray(n);
+        int[] label = new int[n];
+        UnionFind uf = new UnionFind(n);
+        int[] from = new int[Math.max(0, n - 1)], to = new int[from.length], weight = new int[from.length];
+        int count = 0;
+
+        while (nbActive > 0) {
+            // 1. Arête minimale de chaque composante
+            for (int r = 0; r < nbRoots; r++) best.set(roots[r], NONE);
+            final int[] act = active;
+            ParallelFor.range(0, nbActive, GRAIN, (lo, hi) -> {
+                for (int i = lo; i < hi; i++) {
+                    int e = act[i];
+                    int cu = comp[edges.from[e]], cv = comp[edges.to[e]];
+                    if (cu == cv) continue;
+                    long key = ((long) edges.weight[e] << 32) | e;
+                    DeltaStepping.atomicMin(best, cu, key);
+                    DeltaStepping.atomicMin(best, cv, key);
+                }
+            });
+
+            // 2. Ajout des arêtes choisies (une arête choisie par ses deux composantes n’est ajoutée qu’une fois)
+            for (int r = 0; r < nbRoots; r++) {
+                long key = best.get(roots[r]);
+                if (key == NONE) continue;
+                int e = (int) key;
+                if (!uf.union(edges.from[e], edges.to[e])) continue;
+                from[count] = edges.from[e];
+                to[count] = edges.to[e];
+                weight[count] = edges.weight[e];
+                count++;
+            }
+
+            // 3. Nouvelles étiquettes, puis retrait des arêtes internes
+            int kept = 0;
+            for (int r = 0; r < nbRoots; r++) {
+                int root = roots[r];
+                label[root] = uf.find(root);
+                if (label[root] == root) roots[kept++] = root;
+            }
+            nbRoots = kept;
+            ParallelFor.range(0, n, GRAIN, (lo, hi) -> {
+                for (int v = lo; v < hi; v++) comp[v] = label[comp[v]];
+            });
+
+            active = removeInternal(edges, comp, active, nbActive);
+            nbActive = active.length;
+        }
+        return new SpanningTree(n, Arrays.copyOf(from, count), Arrays.copyOf(to, count), Arrays.copyOf(weight, count));
+    }
+
+    /**
+     * Garde les arêtes dont les extrémités sont dans des composantes différentes :
+     * chaque morceau est compacté sur place en parallèle, puis les morceaux sont
+     * recopiés bout à bout.
+     *
+     * @return nouvelles arêtes actives (tableau de la taille exacte)
+     */
+    private static int[] removeInternal(EdgeList edges, int[] comp, int[] active, int nbActive) {
+        int chunks = (nbActive + CHUNK - 1) / CHUNK;
+        int[] kept = new int[chunks];
+        ParallelFor.range(0, chunks, 1, (lo, hi) -> {
+            for (int c = lo; c < hi; c++) {
+                int start = c * CHUNK, end = Math.min(start + CHUNK, nbActive);
+                int k = start;
+                for (int i = start; i < end; i++) {
+                    int e = active[i];
+                    if (comp[edges.from[e]] != comp[edges.to[e]]) active[k++] = e;
+                }
+                kept[c] = k - start;
+            }
+        });
+
+        int[] offset = new int[chunks + 1];
+        for (int c = 0; c < chunks; c++) offset[c + 1] = offset[c] + kept[c];
+        int[] next = new int[offset[chunks]];
+        ParallelFor.range(0, chunks, 1, (lo, hi) -> {
+            for (int c = lo; c < hi; c++) System.arraycopy(active, c * CHUNK, next, offset[c], kept[c]);
+        });
+        return next;
+    }
+}
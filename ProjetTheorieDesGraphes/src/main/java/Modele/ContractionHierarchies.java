@@ -0,0 +1,628 @@
+package Modele;
+
+import java.util.*;
+
+/**
+ * Hiérarchies de contraction (Contraction Hierarchies) pour répondre très rapidement
+ * à de nombreuses requêtes de plus court chemin sur un graphe statique.
+ *
+ * Le principe se déroule en deux phases :
+ *
+ * 1. Prétraitement (une seule fois par graphe) :
+ *    - les sommets sont contractés un par un, dans un ordre choisi par une priorité
+ *      (différence d’arêtes : raccourcis créés − arcs supprimés, plus le nombre de voisins
+ *      déjà contractés) ;
+ *    - contracter v consiste à le retirer du graphe restant ; pour chaque couple
+ *      u → v → w, une recherche de témoin (Dijkstra local borné) vérifie s’il existe
+ *      un autre chemin u → w au moins aussi court. Sinon, un raccourci u → w
+ *      (de sommet milieu v) est ajouté.
+ *
+ * 2. Requête : Dijkstra bidirectionnel où la recherche avant ne suit que des arcs
+ *    montant dans la hiérarchie et la recherche arrière que des arcs descendants.
+ *    Seule une petite partie du graphe est explorée. Les raccourcis du chemin obtenu
+ *    sont ensuite dépliés récursivement pour retrouver le chemin dans le graphe d’origine.
+ *
+ * Le graphe ne doit contenir aucun poids négatif. Les modifications ultérieures du
+ * {@link Graphe} ne sont pas prises en compte : il faut refaire le prétraitement.
+ *
+ * Le texte produit par {@link #getResult(int, int)} reprend le format de {@link Dijkstra}.
+ */
+public class ContractionHierarchies {
+
+    /** Nombre maximal de sommets traités par une recherche de témoin. */
+    private static final int WITNESS_SETTLE_LIMIT = 500;
+
+    /** Nombre de sommets. */
+    private final int n;
+
+    /** Noms des sommets, pour l’affichage. */
+    private final String[] noms;
+
+    /** rank[v] = position de v dans l’ordre de contraction (0 = contracté en premier). */
+    private final int[] rank;
+
+    /** Nombre de raccourcis ajoutés pendant le prétraitement. */
+    private int nbShortcuts;
+
+    /** Arcs montants u → v (rank[u] &lt; rank[v]), indexés par u. */
+    private int[] upOffsets, upTargets, upMiddles;
+
+    /** Arcs descendants u → v (rank[u] &gt; rank[v]), indexés par v et stockés comme v → u. */
+    private int[] downOffsets, downTargets, downMiddles;
+
+    /**
+     * Poids des arcs montants et descendants. Un raccourci additionne les poids des
+     * arcs qu’il remplace, eux-mêmes parfois des raccourcis : la somme peut dépasser
+     * un {@code int} sur un grand graphe routier, d’où le stockage en {@code long}.
+     */
+    private long[] upWeights, downWeights;
+
+    /** Espace de travail des requêtes, un par thread. */
+    private final ThreadLocal<QueryWorkspace> workspace;
+
+    /** Liste représentant le chemin de la dernière requête {@link #getResult(int, int)}. */
+    private final List<Integer> finalPath = new ArrayList<>();
+
+    // Structures temporaires du prétraitement (libérées à la fin)
+
+    /** Arcs du graphe en cours de contraction : source, cible, sommet milieu (-1 si arc original). */
+    private int[] arcFrom, arcTo, arcMiddle;
+
+    /** Poids des arcs en cours de contraction (en {@code long}, comme ceux des raccourcis). */
+    private long[] arcWeight;
+
+    /** Nombre d’arcs (originaux + raccourcis). */
+    private int nbArcs;
+
+    /** Identifiants des arcs sortants / entrants de chaque sommet. */
+    private int[][] outArcs, inArcs;
+
+    /** Nombre d’identifiants valides dans outArcs / inArcs. */
+    private int[] outSize, inSize;
+
+    /** Sommets déjà contractés. */
+    private boolean[] contracted;
+
+    /** Nombre de voisins déjà contractés (terme de la priorité). */
+    private int[] deletedNeighbors;
+
+    /** Distances et liste des sommets touchés par la recherche de témoin. */
+    private long[] witnessDist;
+    private int[] touched;
+    private int nbTouched;
+    private IndexedMinHeap witnessHeap;
+
+    /**
+     * Effectue le prétraitement complet du graphe.
+     *
+     * @param g graphe à poids positifs ou nuls
+     */
+    public ContractionHierarchies(Graphe g) {
+        AdjacenceCSR csr = g.getCSR();
+        this.n = csr.getNbSommets();
+        this.noms = g.getAllVertexNames().toArray(new String[0]);
+        this.rank = new int[n];
+
+        initContraction(csr);
+        contractAll();
+        buildSearchGraphs();
+
+        // Libération des structures de prétraitement
+        arcFrom = arcTo = arcMiddle = null;
+        arcWeight = null;
+        outArcs = inArcs = null;
+        outSize = inSize = null;
+        contracted = null;
+        deletedNeighbors = null;
+        witnessDist = null;
+        touched = null;
+        witnessHeap = null;
+
+        this.workspace = ThreadLocal.withInitial(() -> new QueryWorkspace(n));
+    }
+
+    // ---------------------------------------------------------------------
+    // Requêtes
+    // ---------------------------------------------------------------------
+
+    /**
+     * Calcule la distance minimale entre deux sommets.
+     *
+     * @param s sommet source
+     * @param t sommet destination
+     * @return distance minimale, ou {@link Dijkstra#INFINI} si t n’est pas atteignable
+     */
+    public long distance(int s, int t) {
+        QueryWorkspace ws = workspace.get();
+        long d = query(ws, s, t);
+        ws.reset();
+        return d;
+    }
+
+    /**
+     * Calcule le plus court chemin entre deux sommets, raccourcis dépliés.
+     *
+     * @param s sommet source
+     * @param t sommet destination
+     * @return liste des sommets du chemin (vide si t n’est pas atteignable)
+     */
+    public List<Integer> path(int s, int t) {
+        QueryWorkspace ws = workspace.get();
+        List<Integer> path = new ArrayList<>();
+        long d = query(ws, s, t);
+
+        if (d != Dijkstra.INFINI) {
+            // Sommets de la hiérarchie : s ... meet (avant) puis meet ... t (arrière)
+            List<Integer> packed = new ArrayList<>();
+            for (int v = ws.meet; v != -1; v = ws.parentF[v]) packed.add(v);
+            Collections.reverse(packed);
+            for (int v = ws.parentB[ws.meet]; v != -1; v = ws.parentB[v]) packed.add(v);
+
+            path.add(packed.get(0));
+            for (int i = 0; i + 1 < packed.size(); i++) unpack(packed.get(i), packed.get(i + 1), path);
+        }
+        ws.reset();
+        return path;
+    }
+
+    /**
+     * Exécute une requête et retourne un texte au format de {@link Dijkstra}.
+     *
+     * @param start indice du sommet source
+     * @param end indice du sommet destination
+     * @return une chaîne de caractères décrivant le résultat du calcul
+     */
+    public String getResult(int start, int end) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("Sommet de départ : ").append(noms[start]).append("\n");
+        sb.append("Sommet d'arrivée : ").append(noms[end]).append("\n\n");
+
+        List<Integer> path = path(start, end);
+        finalPath.clear();
+        if (path.isEmpty()) {
+            sb.append("Aucun chemin trouvé entre ").append(noms[start])
+                    .append(" et ").append(noms[end]).append(".\n");
+        } else {
+            finalPath.addAll(path);
+            long distance = distance(start, end);
+            List<String> names = new ArrayList<>();
+            for (int v : path) names.add(noms[v]);
+            sb.append("Distance minimale : ").append(distance).append("\n");
+            sb.append("Chemin le plus court : ").append(String.join(" → ", names)).append("\n");
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Retourne le chemin de la dernière requête {@link #getResult(int, int)}.
+     *
+     * @return une nouvelle liste contenant les indices du plus court chemin
+     */
+    public List<Integer> getFinalPath() {
+        return new ArrayList<>(finalPath);
+    }
+
+    /** @return nombre de raccourcis ajoutés pendant le prétraitement */
+    public int getNbShortcuts() {
+        return nbShortcuts;
+    }
+
+    /**
+     * @param v sommet
+     * @return rang de v dans la hiérarchie (0 = moins important)
+     */
+    public int getRank(int v) {
+        return rank[v];
+    }
+
+    /** @return nombre de sommets du graphe prétraité */
+    public int getNbSommets() {
+        return n;
+    }
+
+    /** @return position du premier arc montant sortant de u */
+    int upBegin(int u) {
+        return upOffsets[u];
+    }
+
+    /** @return position suivant le dernier arc montant sortant de u */
+    int upEnd(int u) {
+        return upOffsets[u + 1];
+    }
+
+    /** @return cible de l’arc montant e */
+    int upTarget(int e) {
+        return upTargets[e];
+    }
+
+    /** @return poids de l’arc montant e */
+    long upWeight(int e) {
+        return upWeights[e];
+    }
+
+    /** @return position du premier arc descendant arrivant en v (parcouru à l’envers) */
+    int downBegin(int v) {
+        return downOffsets[v];
+    }
+
+    /** @return position suivant le dernier arc descendant arrivant en v */
+    int downEnd(int v) {
+        return downOffsets[v + 1];
+    }
+
+    /** @return origine de l’arc descendant e (sommet de rang supérieur) */
+    int downTarget(int e) {
+        return downTargets[e];
+    }
+
+    /** @return poids de l’arc descendant e */
+    long downWeight(int e) {
+        return downWeights[e];
+    }
+
+    /**
+     * Dijkstra bidirectionnel dans la hiérarchie.
+     * Les distances restent dans l’espace de travail jusqu’à l’appel de {@code reset()}.
+     */
+    private long query(QueryWorkspace ws, int s, int t) {
+        ws.meet = -1;
+        ws.setF(s, 0, -1);
+        ws.setB(t, 0, -1);
+        ws.heapF.insertOrDecrease(s, 0);
+        ws.heapB.insertOrDecrease(t, 0);
+        long mu = Dijkstra.INFINI;
+
+        while (true) {
+            boolean fwd = !ws.heapF.isEmpty() && ws.heapF.peekKey() < mu;
+            boolean bwd = !ws.heapB.isEmpty() && ws.heapB.peekKey() < mu;
+            if (!fwd && !bwd) break;
+
+            if (fwd) {
+                int u = ws.heapF.poll();
+                long du = ws.distF[u];
+                if (ws.distB[u] != Dijkstra.INFINI && du + ws.distB[u] < mu) {
+                    mu = du + ws.distB[u];
+                    ws.meet = u;
+                }
+                for (int e = upOffsets[u]; e < upOffsets[u + 1]; e++) {
+                    int v = upTargets[e];
+                    long nd = du + upWeights[e];
+                    if (nd < ws.distF[v]) {
+                        ws.setF(v, nd, u);
+                        ws.heapF.insertOrDecrease(v, nd);
+                    }
+                }
+            }
+            if (bwd) {
+                int u = ws.heapB.poll();
+                long du = ws.distB[u];
+                if (ws.distF[u] != Dijkstra.INFINI && du + ws.distF[u] < mu) {
+                    mu = du + ws.distF[u];
+                    ws.meet = u;
+                }
+                for (int e = downOffsets[u]; e < downOffsets[u + 1]; e++) {
+                    int v = downTargets[e];
+                    long nd = du + downWeights[e];
+                    if (nd < ws.distB[v]) {
+                        ws.setB(v, nd, u);
+                        ws.heapB.insertOrDecrease(v, nd);
+                    }
+                }
+            }
+        }
+        return mu;
+    }
+
+    /**
+     * Déplie l’arc a → b de la hiérarchie et ajoute au chemin les sommets
+     * qui suivent a (b compris), dans l’ordre.
+     */
+    private void unpack(int a, int b, List<Integer> path) {
+        Deque<int[]> stack = new ArrayDeque<>();
+        stack.push(new int[]{a, b});
+        while (!stack.isEmpty()) {
+            int[] arc = stack.pop();
+            int middle = middleOf(arc[0], arc[1]);
+            if (middle == -1) {
+                path.add(arc[1]);
+            } else {
+                // Traiter a → milieu avant milieu → b
+                stack.push(new int[]{middle, arc[1]});
+                stack.push(new int[]{arc[0], middle});
+            }
+        }
+    }
+
+    /** Sommet milieu de l’arc a → b de la hiérarchie (-1 pour un arc original). */
+    private int middleOf(int a, int b) {
+        if (rank[a] < rank[b]) {
+            int pos = Arrays.binarySearch(upTargets, upOffsets[a], upOffsets[a + 1], b);
+            return upMiddles[pos];
+        }
+        int pos = Arrays.binarySearch(downTargets, downOffsets[b], downOffsets[b + 1], a);
+        return downMiddles[pos];
+    }
+
+    // ---------------------------------------------------------------------
+    // Prétraitement
+    // ---------------------------------------------------------------------
+
+    /** Recopie les arcs du graphe dans les structures modifiables de contraction. */
+    private void initContraction(AdjacenceCSR csr) {
+        int m = csr.getNbArcs();
+        arcFrom = new int[Math.max(16, m * 2)];
+        arcTo = new int[arcFrom.length];
+        arcWeight = new long[arcFrom.length];
+        arcMiddle = new int[arcFrom.length];
+        outArcs = new int[n][];
+        inArcs = new int[n][];
+        outSize = new int[n];
+        inSize = new int[n];
+        contracted = new boolean[n];
+        deletedNeighbors = new int[n];
+        witnessDist = new long[n];
+        Arrays.fill(witnessDist, Dijkstra.INFINI);
+        touched = new int[n];
+        witnessHeap = new IndexedMinHeap(n);
+
+        for (int u = 0; u < n; u++) {
+            for (int e = csr.firstArc(u); e < csr.endArc(u); e++) {
+                int v = csr.arcTarget(e);
+                int w = csr.arcWeight(e);
+                if (w < 0)
+                    throw new IllegalArgumentException("Les hiérarchies de contraction exigent des poids positifs");
+                if (u != v) addArc(u, v, w, -1);
+            }
+        }
+    }
+
+    /** Contracte tous les sommets dans l’ordre des priorités (mises à jour paresseuses). */
+    private void contractAll() {
+        IndexedMinHeap order = new IndexedMinHeap(n);
+        for (int v = 0; v < n; v++) order.insertOrDecrease(v, priority(v));
+
+        int next = 0;
+        while (!order.isEmpty()) {
+            int v = order.poll();
+
+            // Mise à jour paresseuse : si la priorité a augmenté, le sommet est remis dans la file
+            long p = priority(v);
+            if (!order.isEmpty() && p > order.peekKey()) {
+                order.insertOrDecrease(v, p);
+                continue;
+            }
+
+            contract(v, false);
+            contracted[v] = true;
+            rank[v] = next++;
+
+            for (int i = 0; i < outSize[v]; i++) deletedNeighbors[arcTo[outArcs[v][i]]]++;
+            for (int i = 0; i < inSize[v]; i++) deletedNeighbors[arcFrom[inArcs[v][i]]]++;
+        }
+    }
+
+    /** Priorité de contraction de v : différence d’arêtes + voisins déjà contractés. */
+    private long priority(int v) {
+        int removed = 0;
+        for (int i = 0; i < outSize[v]; i++) if (!contracted[arcTo[outArcs[v][i]]]) removed++;
+        for (int i = 0; i < inSize[v]; i++) if (!contracted[arcFrom[inArcs[v][i]]]) removed++;
+        int shortcuts = contract(v, true);
+        return (long) shortcuts - removed + deletedNeighbors[v];
+    }
+
+    /**
+     * Contracte v (ou simule sa contraction) : ajoute les raccourcis u → x nécessaires
+     * pour chaque couple d’arcs u → v → x sans chemin témoin plus court.
+     *
+     * @param v sommet à contracter
+     * @param simulate true pour seulement compter les raccourcis
+     * @return nombre de raccourcis nécessaires
+     */
+    private int contract(int v, boolean simulate) {
+        int count = 0;
+        for (int i = 0; i < inSize[v]; i++) {
+            int a = inArcs[v][i];
+            int u = arcFrom[a];
+            if (contracted[u]) continue;
+
+            // Distance maximale à vérifier pour ce sommet d’entrée
+            long maxDist = 0;
+            for (int j = 0; j < outSize[v]; j++) {
+                int b = outArcs[v][j];
+                int x = arcTo[b];
+                if (!contracted[x] && x != u) maxDist = Math.max(maxDist, arcWeight[a] + arcWeight[b]);
+            }
+            if (maxDist == 0) continue;
+
+            witnessSearch(u, v, maxDist);
+
+            for (int j = 0; j < outSize[v]; j++) {
+                int b = outArcs[v][j];
+                int x = arcTo[b];
+                if (contracted[x] || x == u) continue;
+                long viaV = arcWeight[a] + arcWeight[b];
+                if (witnessDist[x] > viaV) {
+                    count++;
+                    if (!simulate) addShortcut(u, x, viaV, v);
+                }
+            }
+            clearWitness();
+        }
+        return count;
+    }
+
+    /** Dijkstra local depuis u dans le graphe restant privé de v, borné par maxDist. */
+    private void witnessSearch(int u, int v, long maxDist) {
+        touch(u, 0);
+        witnessHeap.insertOrDecrease(u, 0);
+        int settled = 0;
+        while (!witnessHeap.isEmpty() && settled < WITNESS_SETTLE_LIMIT) {
+            if (witnessHeap.peekKey() > maxDist) break;
+            int x = witnessHeap.poll();
+            settled++;
+            long dx = witnessDist[x];
+            for (int i = 0; i < outSize[x]; i++) {
+                int e = outArcs[x][i];
+                int y = arcTo[e];
+                if (y == v || contracted[y]) continue;
+                long nd = dx + arcWeight[e];
+                if (nd < witnessDist[y]) {
+                    touch(y, nd);
+                    witnessHeap.insertOrDecrease(y, nd);
+                }
+            }
+        }
+        witnessHeap.clear();
+    }
+
+    /** Met à jour la distance de témoin d’un sommet en mémorisant qu’il a été touché. */
+    private void touch(int x, long d) {
+        if (witnessDist[x] == Dijkstra.INFINI) touched[nbTouched++] = x;
+        witnessDist[x] = d;
+    }
+
+    /** Remet à l’infini les distances touchées par la dernière recherche de témoin. */
+    private void clearWitness() {
+        for (int i = 0; i < nbTouched; i++) witnessDist[touched[i]] = Dijkstra.INFINI;
+        nbTouched = 0;
+    }
+
+    /** Ajoute un raccourci u → x, ou améliore l’arc u → x existant. */
+    private void addShortcut(int u, int x, long w, int middle) {
+        for (int i = 0; i < outSize[u]; i++) {
+            int e = outArcs[u][i];
+            if (arcTo[e] == x) {
+                if (w < arcWeight[e]) {
+                    arcWeight[e] = w;
+                    arcMiddle[e] = middle;
+                    nbShortcuts++;
+                }
+                return;
+            }
+        }
+        addArc(u, x, w, middle);
+        nbShortcuts++;
+    }
+
+    /** Ajoute un nouvel arc aux structures de contraction. */
+    private void addArc(int u, int v, long w, int middle) {
+        if (nbArcs == arcFrom.length) {
+            int cap = arcFrom.length * 2;
+            arcFrom = Arrays.copyOf(arcFrom, cap);
+            arcTo = Arrays.copyOf(arcTo, cap);
+            arcWeight = Arrays.copyOf(arcWeight, cap);
+            arcMiddle = Arrays.copyOf(arcMiddle, cap);
+        }
+        int id = nbArcs++;
+        arcFrom[id] = u;
+        arcTo[id] = v;
+        arcWeight[id] = w;
+        arcMiddle[id] = middle;
+        outArcs[u] = append(outArcs[u], outSize[u]++, id);
+        inArcs[v] = append(inArcs[v], inSize[v]++, id);
+    }
+
+    /** Ajoute une valeur à une liste d’entiers extensible. */
+    private static int[] append(int[] list, int size, int value) {
+        if (list == null) list = new int[4];
+        else if (size == list.length) list = Arrays.copyOf(list, size * 2);
+        list[size] = value;
+        return list;
+    }
+
+    /** Construit les graphes de recherche montant et descendant au format CSR trié. */
+    private void buildSearchGraphs() {
+        upOffsets = new int[n + 1];
+        downOffsets = new int[n + 1];
+        for (int e = 0; e < nbArcs; e++) {
+            if (rank[arcFrom[e]] < rank[arcTo[e]]) upOffsets[arcFrom[e] + 1]++;
+            else downOffsets[arcTo[e] + 1]++;
+        }
+        for (int v = 0; v < n; v++) {
+            upOffsets[v + 1] += upOffsets[v];
+            downOffsets[v + 1] += downOffsets[v];
+        }
+
+        // Arcs regroupés par ligne puis triés par cible (clé = cible << 32 | identifiant d’arc)
+        long[] upKeys = new long[upOffsets[n]];
+        long[] downKeys = new long[downOffsets[n]];
+        int[] upNext = Arrays.copyOf(upOffsets, n);
+        int[] downNext = Arrays.copyOf(downOffsets, n);
+        for (int e = 0; e < nbArcs; e++) {
+            int u = arcFrom[e], v = arcTo[e];
+            if (rank[u] < rank[v]) upKeys[upNext[u]++] = ((long) v << 32) | e;
+            else downKeys[downNext[v]++] = ((long) u << 32) | e;
+        }
+
+        upTargets = new int[upKeys.length];
+        upWeights = new long[upKeys.length];
+        upMiddles = new int[upKeys.length];
+        fillRows(upOffsets, upKeys, upTargets, upWeights, upMiddles);
+
+        downTargets = new int[downKeys.length];
+        downWeights = new long[downKeys.length];
+        downMiddles = new int[downKeys.length];
+        fillRows(downOffsets, downKeys, downTargets, downWeights, downMiddles);
+    }
+
+    /** Trie chaque ligne par cible et recopie les poids et milieux des arcs correspondants. */
+    private void fillRows(int[] offsets, long[] keys, int[] targets, long[] weights, int[] middles) {
+        for (int v = 0; v < n; v++) {
+            Arrays.sort(keys, offsets[v], offsets[v + 1]);
+        }
+        for (int i = 0; i < keys.length; i++) {
+            int e = (int) keys[i];
+            targets[i] = (int) (keys[i] >>> 32);
+            weights[i] = arcWeight[e];
+            middles[i] = arcMiddle[e];
+        }
+    }
+
+    /**
+     * Espace de travail d’une requête : distances et parents des deux recherches,
+     * remis à zéro uniquement sur les sommets touchés (coût indépendant de n).
+     */
+    private static final class QueryWorkspace {
+        final long[] distF, distB;
+        final int[] parentF, parentB;
+        final IndexedMinHeap heapF, heapB;
+        final int[] touchedList;
+        int nbTouched;
+        int meet;
+
+        QueryWorkspace(int n) {
+            distF = new long[n];
+            distB = new long[n];
+            parentF = new int[n];
+            parentB = new int[n];
+            Arrays.fill(distF, Dijkstra.INFINI);
+            Arrays.fill(distB, Dijkstra.INFINI);
+            heapF = new IndexedMinHeap(n);
+            heapB = new IndexedMinHeap(n);
+            touchedList = new int[2 * n];
+        }
+
+        void setF(int v, long d, int parent) {
+            if (distF[v] == Dijkstra.INFINI && distB[v] == Dijkstra.INFINI) touchedList[nbTouched++] = v;
+            distF[v] = d;
+            parentF[v] = parent;
+        }
+
+        void setB(int v, long d, int parent) {
+            if (distF[v] == Dijkstra.INFINI && distB[v] == Dijkstra.INFINI) touchedList[nbTouched++] = v;
+            distB[v] = d;
+            parentB[v] = parent;
+        }
+
+        void reset() {
+            for (int i = 0; i < nbTouched; i++) {
+                int v = touchedList[i];
+                distF[v] = Dijkstra.INFINI;
+                distB[v] = Dijkstra.INFINI;
+            }
+            nbTouched = 0;
+            heapF.clear();
+            heapB.clear();
+        }
+    }
+}
@@ -37,7 +37,7 @@ public class DFS {
      */
     public String getResult(Graphe graphe, int startNode) {
         StringBuilder sb = new StringBuilder();
-        int[][] matrice = graphe.getMatrix();
+        AdjacenceCSR csr = graphe.getCSR();
         String[] noms = getVertexNames(graphe);
 
         Set<Integer> visited = new HashSet<>();
@@ -62,13 +62,13 @@ public class DFS {
             }
 
             // Recherche du prochain voisin à explorer
-            int nextNode = findNextNode(node, matrice, visited);
+            int nextNode = findNextNode(node, csr, visited);
             if (nextNode != -1) {
                 // On descend dans la branche
                 stack.push(nextNode);
                 finalPath.add(nextNode);
                 sb.append("  Descente vers : ").append(noms[nextNode])
-                        .append(" (distance : ").append(matrice[node][nextNode]).append(")\n");
+                        .append(" (distance : ").append(csr.weight(node, nextNode)).append(")\n");
             } else {
                 // Aucun voisin non visité → on remonte (backtrack)
                 stack.pop();
@@ -101,17 +101,19 @@ public class DFS {
      * de poids minimal est choisi en priorité.
      *
      * @param node indice du sommet courant
-     * @param matrice matrice d’adjacence du graphe
+     * @param csr arcs du graphe au format CSR
      * @param visited ensemble des sommets déjà visités
      * @return l’indice du prochain sommet à visiter, ou -1 s’il n’en existe pas
      */
-    private int findNextNode(int node, int[][] matrice, Set<Integer> visited) {
+    private int findNextNode(int node, AdjacenceCSR csr, Set<Integer> visited) {
         int minDistance = Integer.MAX_VALUE;
         int nextNode = -1;
 
-        for (int j = 0; j < matrice[node].length; j++) {
-            if (matrice[node][j] > 0 && !visited.contains(j) && matrice[node][j] < minDistance) {
-                minDistance = matrice[node][j];
+        for (int e = csr.firstArc(node); e < csr.endArc(node); e++) {
+            int j = csr.arcTarget(e);
+            int poids = csr.arcWeight(e);
+            if (poids > 0 && !visited.contains(j) && poids < minDistance) {
+                minDistance = poids;
                 nextNode = j;
             }
         }
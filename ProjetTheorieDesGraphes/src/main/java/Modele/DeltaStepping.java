@@ -0,0 +1,225 @@
+package Modele;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Plus courts chemins depuis une source par l’algorithme « delta-stepping »
+ * (Meyer et Sanders), parallélisé sur le {@link java.util.concurrent.ForkJoinPool} commun.
+ *
+ * Les sommets sont rangés dans des seaux de largeur Δ selon leur distance
+ * provisoire : le seau i contient les distances de [iΔ, (i+1)Δ[. Le plus petit
+ * seau non vide est traité en entier, en parallèle :
+ * - les arcs légers (poids ≤ Δ) sont relâchés tant que le seau se remplit à nouveau,
+ * - les arcs lourds (poids &gt; Δ) ne sont relâchés qu’une fois, quand le seau est vidé.
+ *
+ * Un petit Δ se rapproche de Dijkstra (peu de travail inutile, peu de parallélisme) ;
+ * un grand Δ se rapproche de Bellman-Ford (beaucoup de parallélisme, des relâchements
+ * répétés). Les relâchements concurrents utilisent un minimum atomique sur les distances.
+ *
+ * Les distances obtenues sont identiques à celles de {@link Dijkstra}. Les prédécesseurs
+ * sont calculés une fois les distances définitives : parmi les arcs u → v tels que
+ * dist[u] + w = dist[v], on retient le plus petit u. Le résultat ne dépend donc pas
+ * de l’ordonnancement des threads ; il forme un arbre de plus courts chemins valide,
+ * qui peut différer de celui de Dijkstra seulement en cas d’égalité de distance.
+ *
+ * L’algorithme ne fonctionne que pour des graphes sans arêtes de poids négatif.
+ */
+public final class DeltaStepping {
+
+    /** En dessous de cette taille, une frontière est relâchée séquentiellement. */
+    private static final int GRAIN = 256;
+
+    private DeltaStepping() {
+    }
+
+    /**
+     * Calcule l’arbre des plus courts chemins avec le Δ par défaut ({@link #defaultDelta(AdjacenceCSR)}).
+     *
+     * @param g graphe à poids positifs
+     * @param source sommet source
+     * @return arbre des plus courts chemins
+     */
+    public static ShortestPathTree shortestPathTree(Graphe g, int source) {
+        return shortestPathTree(g, source, defaultDelta(g.getCSR()));
+    }
+
+    /**
+     * Calcule l’arbre des plus courts chemins avec une largeur de seau donnée.
+     *
+     * @param g graphe à poids positifs
+     * @param source sommet source
+     * @param delta largeur des seaux (≥ 1)
+     * @return arbre des plus courts chemins
+     */
+    public static ShortestPathTree shortestPathTree(Graphe g, int source, long delta) {
+        if (delta < 1) throw new IllegalArgumentException("Delta doit être ≥ 1 : " + delta);
+        if (GraphManager.hasNegativeWeight(g))
+            throw new IllegalArgumentException("Delta-stepping exige des poids positifs");
+
+        AdjacenceCSR csr = g.getCSR();
+        long[] dist = distances(csr, source, delta);
+        int[] parent = parents(g.getReverseCSR(), source, dist);
+        return new ShortestPathTree(source, dist, parent);
+    }
+
+    /**
+     * Δ par défaut : poids maximal divisé par le degré moyen, soit à peu près le poids
+     * au-delà duquel un arc a peu de chances d’appartenir à un plus court chemin.
+     *
+     * @param csr arcs du graphe
+     * @return largeur de seau (≥ 1)
+     */
+    public static long defaultDelta(AdjacenceCSR csr) {
+        int n = csr.getNbSommets();
+        int m = csr.getNbArcs();
+        if (n == 0 || m == 0) return 1;
+        double avgDegree = (double) m / n;
+        return Math.max(1, (long) (csr.maxWeight() / Math.max(1.0, avgDegree)));
+    }
+
+    /** Phase principale : distances définitives depuis la source. */
+    private static long[] distances(AdjacenceCSR csr, int source, long delta) {
+        int n = csr.getNbSommets();
+        AtomicLongArray dist = new AtomicLongArray(n);
+        for (int v = 0; v < n; v++) dist.set(v, Dijkstra.INFINI);
+        dist.set(source, 0);
+
+        // Seaux indexés par floor(dist / delta) ; les entrées périmées sont ignorées à la lecture
+        TreeMap<Long, IntList> buckets = new TreeMap<>();
+        bucket(buckets, 0).add(source);
+
+        // Sommets améliorés pendant une phase (chaque sommet n’y figure qu’une fois)
+        AtomicIntegerArray queued = new AtomicIntegerArray(n);
+        int[] improved = new int[n];
+        AtomicInteger nbImproved = new AtomicInteger();
+
+        int[] inFrontier = new int[n];
+        Arrays.fill(inFrontier, -1);
+        int round = 0;
+
+        while (!buckets.isEmpty()) {
+            Map.Entry<Long, IntList> first = buckets.pollFirstEntry();
+            long index = first.getKey();
+            IntList current = first.getValue();
+            IntList settled = new IntList();
+
+            while (current != null && current.size > 0) {
+                // Frontière : entrées à jour du seau, sans doublon
+                round++;
+                int[] frontier = new int[current.size];
+                int size = 0;
+                for (int i = 0; i < current.size; i++) {
+                    int v = current.data[i];
+                    if (inFrontier[v] != round && dist.get(v) / delta == index) {
+                        inFrontier[v] = round;
+                        frontier[size++] = v;
+                        settled.add(v);
+                    }
+                }
+
+                relax(csr, dist, frontier, size, delta, true, queued, improved, nbImproved);
+                distribute(buckets, dist, delta, queued, improved, nbImproved);
+                current = buckets.remove(index);
+            }
+
+            // Arcs lourds des sommets définitivement traités dans ce seau
+            relax(csr, dist, settled.data, settled.size, delta, false, queued, improved, nbImproved);
+            distribute(buckets, dist, delta, queued, improved, nbImproved);
+        }
+
+        long[] result = new long[n];
+        for (int v = 0; v < n; v++) result[v] = dist.get(v);
+        return result;
+    }
+
+    /** Relâche en parallèle les arcs légers (ou lourds) des sommets de la frontière. */
+    private static void relax(AdjacenceCSR csr, AtomicLongArray dist, int[] frontier, int size, long delta,
+                              boolean light, AtomicIntegerArray queued, int[] improved, AtomicInteger nbImproved) {
+        ParallelFor.range(0, size, GRAIN, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                int u = frontier[i];
+                long du = dist.get(u);
+                for (int e = csr.firstArc(u); e < csr.endArc(u); e++) {
+                    int w = csr.arcWeight(e);
+                    if ((w <= delta) != light) continue;
+                    int v = csr.arcTarget(e);
+                    if (atomicMin(dist, v, du + w) && queued.compareAndSet(v, 0, 1)) {
+                        improved[nbImproved.getAndIncrement()] = v;
+                    }
+                }
+            }
+        });
+    }
+
+    /** Range les sommets améliorés dans le seau correspondant à leur nouvelle distance. */
+    private static void distribute(TreeMap<Long, IntList> buckets, AtomicLongArray dist, long delta,
+                                   AtomicIntegerArray queued, int[] improved, AtomicInteger nbImproved) {
+        int count = nbImproved.getAndSet(0);
+        for (int i = 0; i < count; i++) {
+            int v = improved[i];
+            queued.set(v, 0);
+            bucket(buckets, dist.get(v) / delta).add(v);
+        }
+    }
+
+    /**
+     * Minimum atomique : remplace dist[v] par value si value est plus petite.
+     *
+     * @return true si la distance a été améliorée
+     */
+    static boolean atomicMin(AtomicLongArray dist, int v, long value) {
+        long current = dist.get(v);
+        while (value < current) {
+            if (dist.compareAndSet(v, current, value)) return true;
+            current = dist.get(v);
+        }
+        return false;
+    }
+
+    /**
+     * Prédécesseurs déterministes à partir des distances définitives : pour chaque
+     * sommet atteint, le plus petit u tel que dist[u] + w(u, v) = dist[v].
+     *
+     * @param reverse arcs inversés du graphe
+     * @param source sommet source
+     * @param dist distances définitives
+     * @return tableau des prédécesseurs (-1 pour la source et les sommets non atteints)
+     */
+    static int[] parents(AdjacenceCSR reverse, int source, long[] dist) {
+        int n = reverse.getNbSommets();
+        int[] parent = new int[n];
+        ParallelFor.range(0, n, 4 * GRAIN, (from, to) -> {
+            for (int v = from; v < to; v++) {
+                parent[v] = -1;
+                if (v == source || dist[v] == Dijkstra.INFINI) continue;
+                // Les lignes CSR sont triées par cible : le premier prédécesseur valide est le plus petit
+                for (int e = reverse.firstArc(v); e < reverse.endArc(v); e++) {
+                    int u = reverse.arcTarget(e);
+                    if (dist[u] != Dijkstra.INFINI && dist[u] + reverse.arcWeight(e) == dist[v]) {
+                        parent[v] = u;
+                        break;
+                    }
+                }
+            }
+        });
+        return parent;
+    }
+
+    private static IntList bucket(TreeMap<Long, IntList> buckets, long index) {
+        return buckets.computeIfAbsent(index, k -> new IntList());
+    }
+
+    /** Liste d’entiers extensible, sans boxing. */
+    private static final class IntList {
+        int[] data = new int[8];
+        int size;
+
+        void add(int v) {
+            if (size == data.length) data = Arrays.copyOf(data, size * 2);
+            data[size++] = v;
+        }
+    }
+}
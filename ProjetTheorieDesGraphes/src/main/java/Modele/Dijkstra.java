@@ -13,15 +13,23 @@ import java.util.*;
  * estimée est sélectionné, puis ses voisins sont mis à jour si un chemin
  * plus court est trouvé.
  *
+ * Le sommet suivant est extrait d’un tas binaire indexé ({@link IndexedMinHeap})
+ * et seuls les voisins réels sont relâchés : la complexité est O((n + m) log n).
+ * La recherche s’arrête dès que le sommet d’arrivée est définitivement traité.
+ *
  * L’algorithme ne fonctionne que pour des graphes sans arêtes de poids négatif.
  *
  * Cette classe fournit :
  * - un calcul du plus court chemin entre deux sommets
+ * - un arbre des plus courts chemins réutilisable depuis une source ({@link ShortestPathTree})
  * - un texte explicatif détaillant les résultats
  * - la liste du chemin final (pour affichage graphique)
  */
 public class Dijkstra {
 
+    /** Distance représentant un sommet non atteint. */
+    static final long INFINI = Long.MAX_VALUE;
+
     /** Liste représentant le chemin final trouvé par l’algorithme. */
     private static List<Integer> finalPath = new ArrayList<>();
 
@@ -44,43 +52,29 @@ public class Dijkstra {
      * @param start indice du sommet source
      * @param end indice du sommet destination
      * @return une chaîne de caractères décrivant le résultat du calcul
+     * @throws IllegalArgumentException si le graphe contient une arête de poids négatif
      */
     public static String getResult(Graphe g, int start, int end) {
+        if (GraphManager.hasNegativeWeight(g))
+            throw new IllegalArgumentException("Dijkstra exige des poids positifs");
         StringBuilder sb = new StringBuilder();
 
-        int[][] mat = g.getMatrix();
-        int n = mat.length;
+        AdjacenceCSR csr = g.getCSR();
+        int n = csr.getNbSommets();
 
         // --- Initialisation des structures ---
-        int[] dist = new int[n];       // Tableau des distances minimales
+        long[] dist = new long[n];     // Tableau des distances minimales
         int[] parent = new int[n];     // Tableau des prédécesseurs
-        boolean[] visited = new boolean[n];  // Marquage des sommets visités
-        Arrays.fill(dist, Integer.MAX_VALUE);
-        Arrays.fill(parent, -1);
-        dist[start] = 0;
 
         sb.append("Sommet de départ : ").append(g.getVertexName(start)).append("\n");
         sb.append("Sommet d'arrivée : ").append(g.getVertexName(end)).append("\n\n");
 
-        // --- Boucle principale (n-1 itérations) ---
-        for (int count = 0; count < n - 1; count++) {
-            int u = minDistance(dist, visited);
-            if (u == -1) break; // Tous les sommets atteignables ont été traités
-            visited[u] = true;
-
-            // Relaxation des arêtes sortantes du sommet u
-            for (int v = 0; v < n; v++) {
-                if (!visited[v] && mat[u][v] != 0 && dist[u] != Integer.MAX_VALUE
-                        && dist[u] + mat[u][v] < dist[v]) {
-                    dist[v] = dist[u] + mat[u][v];
-                    parent[v] = u;
-                }
-            }
-        }
+        // --- Recherche avec arrêt dès que le sommet d’arrivée est atteint ---
+        search(csr, start, end, dist, parent);
 
         // --- Reconstruction du chemin final ---
         finalPath.clear();
-        if (dist[end] == Integer.MAX_VALUE) {
+        if (dist[end] == INFINI) {
             sb.append("Aucun chemin trouvé entre ")
                     .append(g.getVertexName(start))
                     .append(" et ")
@@ -107,23 +101,161 @@ public class Dijkstra {
     }
 
     /**
-     * Recherche le sommet non visité avec la plus petite distance courante.
+     * Cœur de l’algorithme : Dijkstra avec tas binaire indexé.
+     *
+     * Les tableaux {@code dist} et {@code parent} sont remplis par la méthode :
+     * un sommet non atteint garde la distance {@link #INFINI} et le parent -1.
+     * Si {@code target} vaut -1, la recherche explore tout le graphe ; sinon elle
+     * s’arrête dès que {@code target} est extrait du tas (sa distance est alors définitive).
+     * Un sommet extrait n’est jamais réinséré : avec des poids négatifs, le résultat
+     * est faux mais la recherche se termine.
+     *
+     * @param csr arcs du graphe (poids positifs ou nuls)
+     * @param start sommet source
+     * @param target sommet d’arrivée, ou -1 pour un calcul vers tous les sommets
+     * @param dist tableau des distances (taille n), rempli par la méthode
+     * @param parent tableau des prédécesseurs (taille n), rempli par la méthode
+     */
+    static void search(AdjacenceCSR csr, int start, int target, long[] dist, int[] parent) {
+        Arrays.fill(dist, INFINI);
+        Arrays.fill(parent, -1);
+        dist[start] = 0;
+
+        IndexedMinHeap heap = new IndexedMinHeap(csr.getNbSommets());
+        boolean[] settled = new boolean[csr.getNbSommets()];
+        heap.insertOrDecrease(start, 0);
+
+        while (!heap.isEmpty()) {
+            int u = heap.poll();
+            settled[u] = true;
+            if (u == target) break; // distance définitive : inutile d’aller plus loin
+
+            long du = dist[u];
+            // Relaxation des arêtes sortantes du sommet u (voisins réels uniquement)
+            for (int e = csr.firstArc(u); e < csr.endArc(u); e++) {
+                int v = csr.arcTarget(e);
+                if (settled[v]) continue;
+                long nd = du + csr.arcWeight(e);
+                if (nd < dist[v]) {
+                    dist[v] = nd;
+                    parent[v] = u;
+                    heap.insertOrDecrease(v, nd);
+                }
+            }
+        }
+    }
+
+    /**
+     * Variante de {@link #search} qui s’arrête dès que tous les sommets marqués
+     * dans {@code isTarget} ont été définitivement traités.
      *
-     * @param dist tableau des distances
-     * @param visited tableau des sommets visités
-     * @return l’indice du sommet le plus proche non encore visité
+     * @param csr arcs du graphe (poids positifs ou nuls)
+     * @param start sommet source
+     * @param isTarget isTarget[v] = true si v est une destination recherchée
+     * @param nbTargets nombre de destinations distinctes marquées
+     * @param dist tableau des distances (taille n), rempli par la méthode
+     * @param parent tableau des prédécesseurs (taille n), rempli par la méthode
      */
-    private static int minDistance(int[] dist, boolean[] visited) {
-        int min = Integer.MAX_VALUE;
-        int minIndex = -1;
-
-        for (int v = 0; v < dist.length; v++) {
-            if (!visited[v] && dist[v] <= min) {
-                min = dist[v];
-                minIndex = v;
+    static void searchTargets(AdjacenceCSR csr, int start, boolean[] isTarget, int nbTargets,
+                              long[] dist, int[] parent) {
+        Arrays.fill(dist, INFINI);
+        Arrays.fill(parent, -1);
+        dist[start] = 0;
+
+        IndexedMinHeap heap = new IndexedMinHeap(csr.getNbSommets());
+        boolean[] settled = new boolean[csr.getNbSommets()];
+        heap.insertOrDecrease(start, 0);
+        int remaining = nbTargets;
+
+        while (!heap.isEmpty()) {
+            int u = heap.poll();
+            settled[u] = true;
+            if (isTarget[u] && --remaining == 0) break;
+
+            long du = dist[u];
+            for (int e = csr.firstArc(u); e < csr.endArc(u); e++) {
+                int v = csr.arcTarget(e);
+                if (settled[v]) continue;
+                long nd = du + csr.arcWeight(e);
+                if (nd < dist[v]) {
+                    dist[v] = nd;
+                    parent[v] = u;
+                    heap.insertOrDecrease(v, nd);
+                }
+            }
+        }
+    }
+
+    /**
+     * Calcule l’arbre des plus courts chemins depuis une source vers tous les sommets.
+     * Une seule recherche est effectuée ; les chemins vers chaque destination
+     * s’obtiennent ensuite avec {@link ShortestPathTree#path(int)}.
+     *
+     * @param g graphe à poids positifs
+     * @param source indice du sommet source
+     * @return arbre immuable contenant distances et prédécesseurs
+     */
+    public static ShortestPathTree shortestPathTree(Graphe g, int source) {
+        AdjacenceCSR csr = g.getCSR();
+        int n = csr.getNbSommets();
+        long[] dist = new long[n];
+        int[] parent = new int[n];
+        search(csr, source, -1, dist, parent);
+        return new ShortestPathTree(source, dist, parent);
+    }
+
+    /**
+     * Dijkstra multi-sources : toutes les sources sont insérées dans le tas à la
+     * distance 0, puis une seule recherche affecte chaque sommet à sa source la plus
+     * proche (partition de type Voronoï, zones de desserte).
+     *
+     * En cas d’égalité de distance, le sommet est attribué à la source d’indice
+     * le plus petit, ce qui rend le résultat indépendant de l’ordre des sources.
+     *
+     * @param g graphe à poids positifs
+     * @param sources sommets sources (installations, dépôts…)
+     * @return affectation de chaque sommet à sa source la plus proche
+     */
+    public static NearestSources nearestSources(Graphe g, int... sources) {
+        if (GraphManager.hasNegativeWeight(g))
+            throw new IllegalArgumentException("Dijkstra multi-sources exige des poids positifs");
+
+        AdjacenceCSR csr = g.getCSR();
+        int n = csr.getNbSommets();
+        long[] dist = new long[n];
+        int[] parent = new int[n];
+        int[] origin = new int[n];
+        Arrays.fill(dist, INFINI);
+        Arrays.fill(parent, -1);
+        Arrays.fill(origin, -1);
+
+        IndexedMinHeap heap = new IndexedMinHeap(n);
+        for (int s : sources) {
+            if (s < 0 || s >= n) throw new IllegalArgumentException("Sommet invalide : " + s);
+            if (origin[s] == -1 || s < origin[s]) origin[s] = s;
+            dist[s] = 0;
+            heap.insertOrDecrease(s, 0);
+        }
+
+        while (!heap.isEmpty()) {
+            int u = heap.poll();
+            long du = dist[u];
+            for (int e = csr.firstArc(u); e < csr.endArc(u); e++) {
+                int v = csr.arcTarget(e);
+                long nd = du + csr.arcWeight(e);
+                if (nd < dist[v]) {
+                    dist[v] = nd;
+                    parent[v] = u;
+                    origin[v] = origin[u];
+                    heap.insertOrDecrease(v, nd);
+                } else if (nd == dist[v] && origin[u] < origin[v] && parent[v] != -1) {
+                    // Égalité : v n’est pas encore traité (nd > du), on peut changer sa source
+                    parent[v] = u;
+                    origin[v] = origin[u];
+                }
             }
         }
-        return minIndex;
+        return new NearestSources(dist, parent, origin);
     }
 
     /**
@@ -0,0 +1,228 @@
+package Modele;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+
+/**
+ * Oracle de distances : résultat final d’un calcul entre toutes les paires,
+ * conservé pour répondre aux requêtes sans recalcul.
+ *
+ * Deux matrices n × n, à plat (case u * n + v) :
+ * - la distance minimale de u à v ({@link Dijkstra#INFINI} si aucun chemin) ;
+ * - le sommet suivant u sur le plus court chemin vers v (-1 si v = u ou s’il n’y a pas de chemin).
+ * {@link #distance(int, int)} est en O(1) et {@link #path(int, int)} en O(longueur du chemin),
+ * en suivant les sommets suivants depuis u.
+ *
+ * L’oracle peut être enregistré ({@link #save(Path)}) puis rechargé ({@link #load(Path)})
+ * par projection du fichier en mémoire : les matrices sont lues directement dans le
+ * fichier projeté, sans copie ni recalcul. Format (petit-boutiste) :
+ * en-tête de 16 octets (signature, version, n, 0), puis n² distances {@code long},
+ * puis n² sommets suivants {@code int}.
+ *
+ * Exemple :
+ *
+ * DistanceOracle oracle = DistanceOracle.compute(g);
+ * oracle.save(Path.of("villes.apsp"));
+ * ...
+ * DistanceOracle oracle = DistanceOracle.load(Path.of("villes.apsp"));
+ * long d = oracle.distance(2, 9);
+ */
+public final class DistanceOracle {
+
+    /** Signature du fichier ("APSP"). */
+    private static final int MAGIC = 0x41505350;
+
+    /** Version du format de fichier. */
+    private static final int VERSION = 1;
+
+    /** Taille de l’en-tête en octets. */
+    private static final int HEADER = 16;
+
+    /** Nombre de sommets. */
+    private final int n;
+
+    /** Distances minimales, ligne par ligne. */
+    private final LongBuffer dist;
+
+    /** Sommets suivants, ligne par ligne. */
+    private final IntBuffer next;
+
+    private DistanceOracle(int n, LongBuffer dist, IntBuffer next) {
+        this.n = n;
+        this.dist = dist;
+        this.next = next;
+    }
+
+    /**
+     * Construit l’oracle à partir des matrices d’un calcul (sémantique de la matrice P
+     * de {@link FloydWarshall} pour les prédécesseurs). Les tableaux ne sont pas copiés.
+     *
+     * @param n nombre de sommets
+     * @param dist distances (taille n²)
+     * @param pred prédécesseurs (taille n²)
+     */
+    DistanceOracle(int n, long[] dist, int[] pred) {
+        this(n, LongBuffer.wrap(dist), IntBuffer.wrap(nextHops(n, dist, pred)));
+    }
+
+    /**
+     * Calcule l’oracle d’un graphe avec le moteur choisi par {@link AllPairsShortestPaths}.
+     *
+     * @param g graphe à traiter (poids négatifs acceptés)
+     * @return l’oracle, ou null si le graphe contient un cycle absorbant
+     */
+    public static DistanceOracle compute(Graphe g) {
+        AllPairsResult r = AllPairsShortestPaths.compute(g);
+        return r == null ? null : of(r);
+    }
+
+    /**
+     * @param r résultat d’un calcul entre toutes les paires
+     * @return oracle correspondant
+     */
+    public static DistanceOracle of(AllPairsResult r) {
+        return new DistanceOracle(r.getNbSommets(), r.getDistances(), r.getPredecessors());
+    }
+
+    /**
+     * Convertit les prédécesseurs en sommets suivants, en O(n²) : le suivant de u vers v
+     * est v si pred(u, v) = u, et sinon le suivant de u vers pred(u, v). Chaque ligne
+     * est résolue en remontant les prédécesseurs jusqu’à un sommet déjà traité.
+     */
+    private static int[] nextHops(int n, long[] dist, int[] pred) {
+        int[] next = new int[n * n];
+        Arrays.fill(next, -1);
+        int[] stack = new int[n];
+        for (int u = 0; u < n; u++) {
+            int row = u * n;
+            for (int v = 0; v < n; v++) {
+                if (v == u || dist[row + v] == Dijkstra.INFINI || next[row + v] != -1) continue;
+                int top = 0, x = v;
+                while (next[row + x] == -1 && pred[row + x] != u && top < n) {
+                    stack[top++] = x;
+                    x = pred[row + x];
+                }
+                int hop = next[row + x] != -1 ? next[row + x] : x;
+                next[row + x] = hop;
+                while (top > 0) next[row + stack[--top]] = hop;
+            }
+        }
+        return next;
+    }
+
+    /** @return nombre de sommets */
+    public int getNbSommets() {
+        return n;
+    }
+
+    /**
+     * @param u sommet de départ
+     * @param v sommet d’arrivée
+     * @return distance minimale de u à v, ou {@link Dijkstra#INFINI} s’il n’existe aucun chemin
+     */
+    public long distance(int u, int v) {
+        return dist.get(u * n + v);
+    }
+
+    /**
+     * @param u sommet de départ
+     * @param v sommet d’arrivée
+     * @return true s’il existe un chemin de u à v
+     */
+    public boolean hasPath(int u, int v) {
+        return distance(u, v) != Dijkstra.INFINI;
+    }
+
+    /**
+     * @param u sommet de départ
+     * @param v sommet d’arrivée
+     * @return sommet qui suit u sur le plus court chemin vers v, ou -1
+     */
+    public int nextHop(int u, int v) {
+        return next.get(u * n + v);
+    }
+
+    /**
+     * Reconstruit le plus court chemin de u à v en suivant les sommets suivants.
+     *
+     * @param u sommet de départ
+     * @param v sommet d’arrivée
+     * @return liste des sommets du chemin (vide s’il n’existe aucun chemin)
+     */
+    public List<Integer> path(int u, int v) {
+        List<Integer> path = new ArrayList<>();
+        if (!hasPath(u, v)) return path;
+        path.add(u);
+        for (int x = u; x != v && path.size() <= n; ) {
+            x = nextHop(x, v);
+            path.add(x);
+        }
+        return path;
+    }
+
+    /**
+     * Enregistre l’oracle dans un fichier (remplacé s’il existe déjà).
+     *
+     * @param file fichier de destination
+     * @throws IOException en cas d’erreur d’écriture
+     */
+    public void save(Path file) throws IOException {
+        long cells = (long) n * n;
+        try (FileChannel ch = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            MappedByteBuffer map = ch.map(FileChannel.MapMode.READ_WRITE, 0, fileSize(n));
+            map.order(ByteOrder.LITTLE_ENDIAN);
+            map.putInt(MAGIC).putInt(VERSION).putInt(n).putInt(0);
+            map.slice().order(ByteOrder.LITTLE_ENDIAN).asLongBuffer().put(dist.duplicate().rewind());
+            map.position(HEADER + (int) (cells * Long.BYTES));
+            map.slice().order(ByteOrder.LITTLE_ENDIAN).asIntBuffer().put(next.duplicate().rewind());
+            map.force();
+        }
+    }
+
+    /**
+     * Charge un oracle enregistré avec {@link #save(Path)}. Le fichier est projeté en
+     * mémoire en lecture seule : les requêtes lisent directement son contenu.
+     *
+     * @param file fichier à charger
+     * @return l’oracle
+     * @throws IOException si le fichier est illisible ou n’est pas un oracle valide
+     */
+    public static DistanceOracle load(Path file) throws IOException {
+        try (FileChannel ch = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (ch.size() < HEADER) throw new IOException("Fichier d’oracle invalide : " + file);
+            MappedByteBuffer map = ch.map(FileChannel.MapMode.READ_ONLY, 0, ch.size());
+            map.order(ByteOrder.LITTLE_ENDIAN);
+            int n = map.getInt(8);
+            if (map.getInt(0) != MAGIC || map.getInt(4) != VERSION || n < 0
+                    || ch.size() != HEADER + (long) n * n * (Long.BYTES + Integer.BYTES))
+                throw new IOException("Fichier d’oracle invalide : " + file);
+
+            long cells = (long) n * n;
+            ByteBuffer distBytes = map.position(HEADER).slice().limit((int) (cells * Long.BYTES));
+            ByteBuffer nextBytes = map.position(HEADER + (int) (cells * Long.BYTES)).slice();
+            return new DistanceOracle(n,
+                    distBytes.order(ByteOrder.LITTLE_ENDIAN).asLongBuffer(),
+                    nextBytes.order(ByteOrder.LITTLE_ENDIAN).asIntBuffer());
+        }
+    }
+
+    /**
+     * @return taille du fichier pour n sommets
+     * @throws IllegalArgumentException si elle dépasse la limite d’une projection (2 Go)
+     */
+    private static long fileSize(int n) {
+        long size = HEADER + (long) n * n * (Long.BYTES + Integer.BYTES);
+        if (size > Integer.MAX_VALUE)
+            throw new IllegalArgumentException("Oracle trop grand pour être projeté en mémoire (" + n + " sommets)");
+        return size;
+    }
+}
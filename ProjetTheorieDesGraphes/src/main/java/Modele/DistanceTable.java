@@ -0,0 +1,257 @@
+package Modele;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Table des distances « plusieurs vers plusieurs » (S sources × T destinations).
+ *
+ * Les distances sont écrites dans un unique tableau primitif, ligne par ligne :
+ * la case {@code i * T + j} contient la distance de {@code sources[i]} à
+ * {@code targets[j]} ({@link Dijkstra#INFINI} si la destination n’est pas atteignable).
+ *
+ * Deux moteurs sont proposés :
+ * - {@link #compute(Graphe, int[], int[])} : un Dijkstra « un vers tous » par source,
+ *   exécutés en parallèle sur un {@link ForkJoinPool}. Chaque recherche s’arrête
+ *   dès que toutes les destinations ont été traitées.
+ * - {@link #compute(ContractionHierarchies, int[], int[])} : algorithme à seaux
+ *   sur une hiérarchie de contraction. Une recherche montante arrière depuis chaque
+ *   destination dépose ses distances dans des seaux, puis une recherche montante
+ *   avant depuis chaque source lit ces seaux. Le travail est partagé entre toutes
+ *   les paires : S + T recherches locales au lieu de S × T requêtes.
+ *
+ * Exemple :
+ *
+ * DistanceTable table = DistanceTable.compute(g, depots, clients);
+ * long d = table.distance(0, 3); // dépôt 0 → client 3
+ */
+public final class DistanceTable {
+
+    /** Nombre de sources traitées par une même tâche parallèle. */
+    private static final int GRAIN = 4;
+
+    /** Sommets sources (lignes de la table). */
+    private final int[] sources;
+
+    /** Sommets destinations (colonnes de la table). */
+    private final int[] targets;
+
+    /** table[i * T + j] = distance de sources[i] à targets[j]. */
+    private final long[] table;
+
+    private DistanceTable(int[] sources, int[] targets, long[] table) {
+        this.sources = sources;
+        this.targets = targets;
+        this.table = table;
+    }
+
+    /**
+     * Calcule la table par des Dijkstra « un vers tous » parallèles (poids positifs).
+     *
+     * @param g graphe à poids positifs
+     * @param sources sommets sources
+     * @param targets sommets destinations
+     * @return table S × T des distances
+     */
+    public static DistanceTable compute(Graphe g, int[] sources, int[] targets) {
+        if (GraphManager.hasNegativeWeight(g))
+            throw new IllegalArgumentException("La table de distances exige des poids positifs");
+
+        AdjacenceCSR csr = g.getCSR();
+        int n = csr.getNbSommets();
+        int[] src = checkVertices(sources, n);
+        int[] dst = checkVertices(targets, n);
+
+        boolean[] isTarget = new boolean[n];
+        int nbTargets = 0;
+        for (int t : dst) {
+            if (!isTarget[t]) {
+                isTarget[t] = true;
+                nbTargets++;
+            }
+        }
+
+        long[] table = new long[src.length * dst.length];
+        int distinctTargets = nbTargets;
+        ParallelFor.range(0, src.length, GRAIN, (from, to) -> {
+            long[] dist = new long[n];
+            int[] parent = new int[n];
+            for (int i = from; i < to; i++) {
+                Dijkstra.searchTargets(csr, src[i], isTarget, distinctTargets, dist, parent);
+                for (int j = 0; j < dst.length; j++) table[i * dst.length + j] = dist[dst[j]];
+            }
+        });
+        return new DistanceTable(src, dst, table);
+    }
+
+    /**
+     * Calcule la table avec l’algorithme à seaux sur une hiérarchie de contraction.
+     *
+     * @param ch hiérarchie de contraction déjà construite
+     * @param sources sommets sources
+     * @param targets sommets destinations
+     * @return table S × T des distances
+     */
+    public static DistanceTable compute(ContractionHierarchies ch, int[] sources, int[] targets) {
+        int n = ch.getNbSommets();
+        int[] src = checkVertices(sources, n);
+        int[] dst = checkVertices(targets, n);
+
+        // 1) Recherches montantes arrière : triplets (sommet, colonne, distance)
+        int[] entryVertex = new int[16];
+        int[] entryColumn = new int[16];
+        long[] entryDist = new long[16];
+        int nbEntries = 0;
+
+        UpwardSearch search = new UpwardSearch(n);
+        for (int j = 0; j < dst.length; j++) {
+            search.run(ch, dst[j], false);
+            int needed = nbEntries + search.nbSettled;
+            if (needed > entryVertex.length) {
+                int cap = Math.max(needed, entryVertex.length * 2);
+                entryVertex = Arrays.copyOf(entryVertex, cap);
+                entryColumn = Arrays.copyOf(entryColumn, cap);
+                entryDist = Arrays.copyOf(entryDist, cap);
+            }
+            for (int k = 0; k < search.nbSettled; k++) {
+                int v = search.settled[k];
+                entryVertex[nbEntries] = v;
+                entryColumn[nbEntries] = j;
+                entryDist[nbEntries] = search.dist[v];
+                nbEntries++;
+            }
+        }
+
+        // 2) Regroupement des triplets en seaux par sommet (tri par comptage)
+        int[] bucketOffsets = new int[n + 1];
+        for (int k = 0; k < nbEntries; k++) bucketOffsets[entryVertex[k] + 1]++;
+        for (int v = 0; v < n; v++) bucketOffsets[v + 1] += bucketOffsets[v];
+        int[] bucketColumn = new int[nbEntries];
+        long[] bucketDist = new long[nbEntries];
+        int[] next = Arrays.copyOf(bucketOffsets, n);
+        for (int k = 0; k < nbEntries; k++) {
+            int p = next[entryVertex[k]]++;
+            bucketColumn[p] = entryColumn[k];
+            bucketDist[p] = entryDist[k];
+        }
+
+        // 3) Recherches montantes avant, en parallèle : chaque source remplit sa ligne
+        long[] table = new long[src.length * dst.length];
+        Arrays.fill(table, Dijkstra.INFINI);
+        ParallelFor.range(0, src.length, GRAIN, (from, to) -> {
+            UpwardSearch forward = new UpwardSearch(n);
+            for (int i = from; i < to; i++) {
+                forward.run(ch, src[i], true);
+                int row = i * dst.length;
+                for (int k = 0; k < forward.nbSettled; k++) {
+                    int v = forward.settled[k];
+                    long dv = forward.dist[v];
+                    for (int b = bucketOffsets[v]; b < bucketOffsets[v + 1]; b++) {
+                        long d = dv + bucketDist[b];
+                        int cell = row + bucketColumn[b];
+                        if (d < table[cell]) table[cell] = d;
+                    }
+                }
+            }
+        });
+        return new DistanceTable(src, dst, table);
+    }
+
+    /** @return nombre de sources (lignes) */
+    public int getNbSources() {
+        return sources.length;
+    }
+
+    /** @return nombre de destinations (colonnes) */
+    public int getNbTargets() {
+        return targets.length;
+    }
+
+    /** @return copie des sommets sources */
+    public int[] getSources() {
+        return sources.clone();
+    }
+
+    /** @return copie des sommets destinations */
+    public int[] getTargets() {
+        return targets.clone();
+    }
+
+    /**
+     * @param i indice de la source dans {@link #getSources()}
+     * @param j indice de la destination dans {@link #getTargets()}
+     * @return distance minimale, ou {@link Dijkstra#INFINI} si non atteignable
+     */
+    public long distance(int i, int j) {
+        return table[i * targets.length + j];
+    }
+
+    /**
+     * Retourne le tableau plat des distances, ligne par ligne. Le tableau n’est
+     * pas recopié (il peut être volumineux) : l’appelant ne doit pas le modifier.
+     *
+     * @return tableau de taille S × T
+     */
+    public long[] getTable() {
+        return table;
+    }
+
+    /** Vérifie les indices de sommets et retourne une copie défensive. */
+    private static int[] checkVertices(int[] vertices, int n) {
+        int[] copy = vertices.clone();
+        for (int v : copy) {
+            if (v < 0 || v >= n) throw new IllegalArgumentException("Sommet invalide : " + v);
+        }
+        return copy;
+    }
+
+    /**
+     * Recherche de Dijkstra limitée aux arcs montants de la hiérarchie (avant)
+     * ou aux arcs descendants parcourus à l’envers (arrière). Les tableaux sont
+     * réutilisés d’une recherche à l’autre : seuls les sommets atteints sont remis à zéro.
+     */
+    private static final class UpwardSearch {
+        final long[] dist;
+        final int[] settled;
+        int nbSettled;
+        private final int[] touched;
+        private int nbTouched;
+        private final IndexedMinHeap heap;
+
+        UpwardSearch(int n) {
+            dist = new long[n];
+            Arrays.fill(dist, Dijkstra.INFINI);
+            settled = new int[n];
+            touched = new int[n];
+            heap = new IndexedMinHeap(n);
+        }
+
+        void run(ContractionHierarchies ch, int start, boolean forward) {
+            for (int i = 0; i < nbTouched; i++) dist[touched[i]] = Dijkstra.INFINI;
+            nbTouched = 0;
+            nbSettled = 0;
+            heap.clear();
+
+            dist[start] = 0;
+            touched[nbTouched++] = start;
+            heap.insertOrDecrease(start, 0);
+
+            while (!heap.isEmpty()) {
+                int u = heap.poll();
+                settled[nbSettled++] = u;
+                long du = dist[u];
+                int begin = forward ? ch.upBegin(u) : ch.downBegin(u);
+                int end = forward ? ch.upEnd(u) : ch.downEnd(u);
+                for (int e = begin; e < end; e++) {
+                    int v = forward ? ch.upTarget(e) : ch.downTarget(e);
+                    long nd = du + (forward ? ch.upWeight(e) : ch.downWeight(e));
+                    if (nd < dist[v]) {
+                        if (dist[v] == Dijkstra.INFINI) touched[nbTouched++] = v;
+                        dist[v] = nd;
+                        heap.insertOrDecrease(v, nd);
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package Modele;
+
+import java.util.Arrays;
+
+/**
+ * Arêtes d’un graphe non orienté, stockées dans trois tableaux parallèles
+ * ({@code from[k]}, {@code to[k]}, {@code weight[k]}) au lieu d’un objet par arête.
+ *
+ * Chaque arête {i, j} n’apparaît qu’une fois, avec i &lt; j, dans l’ordre des lignes
+ * de la vue CSR (i croissant, puis j croissant) : c’est aussi l’ordre dans lequel
+ * {@link Kruskal} les examinait, ce qui conserve son résultat à poids égaux.
+ *
+ * Le tri par poids ({@link #sortedOrder()}) est stable : à poids égal, l’arête
+ * d’indice le plus petit passe en premier. L’ordre (poids, indice) est donc un ordre
+ * total, qui désigne un unique arbre couvrant minimal, quel que soit le moteur utilisé.
+ */
+final class EdgeList {
+
+    /** Au-delà de ce nombre d’arêtes, le tri utilise {@link Arrays#parallelSort(long[])}. */
+    static final int PARALLEL_SORT_THRESHOLD = 1 << 17;
+
+    /** Nombre d’arêtes. */
+    final int m;
+
+    /** Extrémité de plus petit indice de chaque arête. */
+    final int[] from;
+
+    /** Extrémité de plus grand indice de chaque arête. */
+    final int[] to;
+
+    /** Poids de chaque arête. */
+    final int[] weight;
+
+    private EdgeList(int m, int[] from, int[] to, int[] weight) {
+        this.m = m;
+        this.from = from;
+        this.to = to;
+        this.weight = weight;
+    }
+
+    /**
+     * Extrait les arêtes {i, j} (i &lt; j) de la vue CSR.
+     *
+     * @param csr arcs du graphe (non orienté)
+     * @return liste des arêtes
+     */
+    static EdgeList of(AdjacenceCSR csr) {
+        int n = csr.getNbSommets();
+        int m = 0;
+        for (int i = 0; i < n; i++)
+            for (int e = csr.firstArc(i); e < csr.endArc(i); e++) if (csr.arcTarget(e) > i) m++;
+
+        int[] from = new int[m], to = new int[m], weight = new int[m];
+        int k = 0;
+        for (int i = 0; i < n; i++) {
+            for (int e = csr.firstArc(i); e < csr.endArc(i); e++) {
+                int j = csr.arcTarget(e);
+                if (j > i) {
+                    from[k] = i;
+                    to[k] = j;
+                    weight[k] = csr.arcWeight(e);
+                    k++;
+                }
+            }
+        }
+        return new EdgeList(m, from, to, weight);
+    }
+
+    /**
+     * @param a indice d’une arête
+     * @param b indice d’une autre arête
+     * @return true si l’arête a précède l’arête b dans l’ordre (poids, indice)
+     */
+    boolean lighter(int a, int b) {
+        return weight[a] < weight[b] || (weight[a] == weight[b] && a < b);
+    }
+
+    /**
+     * @return indices des arêtes triés par poids croissant (stable)
+     */
+    int[] sortedOrder() {
+        return m >= PARALLEL_SORT_THRESHOLD ? parallelSortedOrder() : radixSortedOrder();
+    }
+
+    /**
+     * Tri par base (LSD), par octets, sur le poids dont le bit de signe est inversé
+     * (les poids négatifs passent ainsi avant les positifs en ordre non signé).
+     * Chaque passe est un tri par dénombrement stable ; les passes dont tous les
+     * octets sont égaux (poids de même ordre de grandeur) sont sautées.
+     */
+    private int[] radixSortedOrder() {
+        int[] order = new int[m], keys = new int[m];
+        int[] tmpOrder = new int[m], tmpKeys = new int[m];
+        for (int k = 0; k < m; k++) {
+            order[k] = k;
+            keys[k] = weight[k] ^ Integer.MIN_VALUE;
+        }
+
+        int[] count = new int[257];
+        for (int shift = 0; shift < 32; shift += 8) {
+            Arrays.fill(count, 0);
+            for (int k = 0; k < m; k++) count[((keys[k] >>> shift) & 0xFF) + 1]++;
+            if (m == 0 || count[((keys[0] >>> shift) & 0xFF) + 1] == m) continue; // octet constant
+
+            for (int d = 0; d < 256; d++) count[d + 1] += count[d];
+            for (int k = 0; k < m; k++) {
+                int p = count[(keys[k] >>> shift) & 0xFF]++;
+                tmpKeys[p] = keys[k];
+                tmpOrder[p] = order[k];
+            }
+            int[] t = keys; keys = tmpKeys; tmpKeys = t;
+            t = order; order = tmpOrder; tmpOrder = t;
+        }
+        return order;
+    }
+
+    /**
+     * Tri parallèle de clés (poids, indice) regroupées dans un {@code long} : le poids
+     * signé occupe les 32 bits de poids fort, l’indice (positif) les 32 bits de poids
+     * faible, si bien que l’ordre des {@code long} est l’ordre (poids, indice).
+     */
+    private int[] parallelSortedOrder() {
+        long[] packed = new long[m];
+        for (int k = 0; k < m; k++) packed[k] = ((long) weight[k] << 32) | k;
+        Arrays.parallelSort(packed);
+        int[] order = new int[m];
+        for (int k = 0; k < m; k++) order[k] = (int) packed[k];
+        return order;
+    }
+}
@@ -0,0 +1,151 @@
+package Modele;
+
+import java.util.Arrays;
+
+/**
+ * Algorithme Filter-Kruskal (Osipov, Sanders, Singler) pour l’arbre couvrant minimal.
+ *
+ * Sur un graphe dense, Kruskal trie toutes les arêtes alors que la plupart sont
+ * ensuite rejetées parce qu’elles forment un cycle. Filter-Kruskal procède comme un
+ * tri rapide :
+ * 1. les arêtes sont partagées autour d’un pivot en « légères » et « lourdes » ;
+ * 2. les légères sont traitées récursivement en premier ;
+ * 3. les lourdes dont les deux extrémités sont déjà dans la même composante
+ *    ({@link UnionFind}) sont éliminées avant d’être triées, puis les restantes
+ *    sont traitées de la même façon.
+ * Les petits groupes (au plus {@link #BASE_CASE} arêtes) sont triés directement
+ * puis parcourus comme dans Kruskal.
+ *
+ * Les arêtes sont comparées selon l’ordre (poids, indice) de {@link EdgeList} :
+ * le résultat est exactement l’arbre de {@link Kruskal#compute(Graphe)}, avec le
+ * même coût total.
+ */
+public final class FilterKruskal {
+
+    /** Taille en dessous de laquelle un groupe d’arêtes est trié directement. */
+    static final int BASE_CASE = 1024;
+
+    /** Arêtes du graphe. */
+    private final EdgeList edges;
+
+    /** Composantes déjà formées. */
+    private final UnionFind uf;
+
+    /** Tampon de tri des petits groupes : clés (poids, indice) regroupées dans un long. */
+    private final long[] packed = new long[BASE_CASE];
+
+    /** Arêtes retenues (extrémités et poids). */
+    private final int[] from, to, weight;
+
+    /** Nombre d’arêtes retenues. */
+    private int count;
+
+    private FilterKruskal(EdgeList edges, int n) {
+        this.edges = edges;
+        this.uf = new UnionFind(n);
+        this.from = new int[Math.max(0, n - 1)];
+        this.to = new int[from.length];
+        this.weight = new int[from.length];
+    }
+
+    /**
+     * Calcule l’arbre (ou la forêt) couvrant minimal.
+     *
+     * @param g graphe pondéré non orienté
+     * @return arêtes retenues et coût total (mêmes arêtes que {@link Kruskal#compute(Graphe)})
+     */
+    public static SpanningTree compute(Graphe g) {
+        AdjacenceCSR csr = g.getCSR();
+        int n = csr.getNbSommets();
+        EdgeList edges = EdgeList.of(csr);
+        int[] idx = new int[edges.m];
+        for (int k = 0; k < edges.m; k++) idx[k] = k;
+
+        FilterKruskal fk = new FilterKruskal(edges, n);
+        fk.solve(idx, 0, edges.m);
+        int c = fk.count;
+        return new SpanningTree(n, Arrays.copyOf(fk.from, c), Arrays.copyOf(fk.to, c), Arrays.copyOf(fk.weight, c));
+    }
+
+    /** @return true si l’arbre couvre déjà tous les sommets */
+    private boolean complete() {
+        return count == from.length;
+    }
+
+    /** Traite les arêtes idx[lo..hi[ (elles sont réordonnées sur place). */
+    private void solve(int[] idx, int lo, int hi) {
+        while (hi - lo > BASE_CASE && !complete()) {
+            int pivot = idx[medianOfThree(idx, lo, lo + (hi - lo) / 2, hi - 1)];
+
+            // Partition : [lo, mid[ plus légères que le pivot, [mid, hi[ plus lourdes (pivot exclu)
+            int mid = lo;
+            int heavyEnd = hi;
+            for (int i = lo; i < heavyEnd; ) {
+                int e = idx[i];
+                if (e == pivot) {
+                    idx[i] = idx[--heavyEnd];
+                    idx[heavyEnd] = e;
+                } else if (edges.lighter(e, pivot)) {
+                    idx[i++] = idx[mid];
+                    idx[mid++] = e;
+                } else {
+                    i++;
+                }
+            }
+            // idx[heavyEnd] = pivot, lourdes dans [mid, heavyEnd[
+            solve(idx, lo, mid);
+            if (complete()) return;
+            tryAdd(pivot);
+
+            lo = filter(idx, mid, heavyEnd);
+            hi = heavyEnd;
+        }
+        if (!complete()) kruskal(idx, lo, hi);
+    }
+
+    /**
+     * Élimine les arêtes idx[lo..hi[ déjà internes à une composante, en regroupant
+     * les arêtes restantes à la fin de l’intervalle.
+     *
+     * @return début de l’intervalle des arêtes restantes (qui se termine en hi)
+     */
+    private int filter(int[] idx, int lo, int hi) {
+        int keep = hi;
+        for (int i = hi - 1; i >= lo; i--) {
+            int e = idx[i];
+            if (uf.find(edges.from[e]) != uf.find(edges.to[e])) idx[--keep] = e;
+        }
+        return keep;
+    }
+
+    /** Cas de base : tri des arêtes idx[lo..hi[ selon (poids, indice), puis Kruskal. */
+    private void kruskal(int[] idx, int lo, int hi) {
+        int size = hi - lo;
+        for (int i = 0; i < size; i++) {
+            int e = idx[lo + i];
+            packed[i] = ((long) edges.weight[e] << 32) | e;
+        }
+        Arrays.sort(packed, 0, size);
+        for (int i = 0; i < size && !complete(); i++) tryAdd((int) packed[i]);
+    }
+
+    /** Ajoute l’arête e à l’arbre si elle relie deux composantes différentes. */
+    private void tryAdd(int e) {
+        if (!uf.union(edges.from[e], edges.to[e])) return;
+        from[count] = edges.from[e];
+        to[count] = edges.to[e];
+        weight[count] = edges.weight[e];
+        count++;
+    }
+
+    /** @return position (a, b ou c) de l’arête médiane selon l’ordre (poids, indice) */
+    private int medianOfThree(int[] idx, int a, int b, int c) {
+        int ea = idx[a], eb = idx[b], ec = idx[c];
+        if (edges.lighter(ea, eb)) {
+            if (edges.lighter(eb, ec)) return b;
+            return edges.lighter(ea, ec) ? c : a;
+        }
+        if (edges.lighter(ea, ec)) return a;
+        return edges.lighter(eb, ec) ? c : b;
+    }
+}
@@ -1,6 +1,8 @@
 package Modele;
 
 import java.util.*;
+import java.util.concurrent.CancellationException;
+import java.util.function.BooleanSupplier;
 
 /**
  * Implémentation de l’algorithme de Floyd-Warshall.
@@ -15,28 +17,69 @@ import java.util.*;
  * Il peut gérer des poids négatifs, mais pas de cycles absorbants
  * (somme négative infinie).
  *
- * L’implémentation conserve :
- * - la matrice des distances (W)
+ * L’implémentation conserve, dans des tableaux plats (case i * n + j) :
+ * - la matrice des distances (W), en entiers longs
  * - la matrice des prédécesseurs (P)
  * - le chemin final entre deux sommets spécifiques
  * - un texte descriptif détaillant chaque étape du calcul
+ *
+ * Le résultat final est conservé dans un {@link DistanceOracle} ({@link #getOracle()}),
+ * qui répond aux requêtes de distance et de chemin sans recalcul.
+ *
+ * Au-delà de {@link #TRACE_LIMIT} sommets, les matrices intermédiaires ne sont plus
+ * affichées et le calcul est confié à {@link BlockedFloydWarshall}, qui parcourt
+ * la matrice par blocs tenant en cache.
  */
 public class FloydWarshall {
 
-    /** Matrice des distances (W[i][j] = distance minimale entre i et j). */
-    private double[][] W;
+    /** Nombre maximal de sommets pour lequel chaque étape est détaillée. */
+    public static final int TRACE_LIMIT = 50;
+
+    /** Nombre de sommets du dernier graphe traité. */
+    private int n;
+
+    /** Matrice des distances (W[i * n + j] = distance minimale entre i et j, {@link Dijkstra#INFINI} si aucun chemin). */
+    private long[] W;
 
-    /** Matrice des prédécesseurs (P[i][j] = indice du prédécesseur de j sur le plus court chemin depuis i). */
-    private int[][] P;
+    /** Matrice des prédécesseurs (P[i * n + j] = indice du prédécesseur de j sur le plus court chemin depuis i). */
+    private int[] P;
+
+    /** Distances et sommets suivants du dernier calcul (null en cas de cycle absorbant). */
+    private DistanceOracle oracle;
+
+    /** Cycle absorbant détecté lors du dernier calcul (null s’il n’y en a pas). */
+    private NegativeCycle negativeCycle;
 
     /** Tableau contenant les noms des sommets pour l’affichage. */
     private String[] noms;
 
-    /** Liste du chemin final utilisé pour la visualisation graphique. */
-    private static List<Integer> finalPath = new ArrayList<>();
+    /** Chemin final du dernier calcul de cette instance (liste non modifiable). */
+    private List<Integer> path = List.of();
+
+    /**
+     * Chemin final du dernier calcul, toutes instances confondues (liste non modifiable,
+     * remplacée en bloc : un lecteur ne voit jamais de chemin à moitié construit).
+     */
+    private static volatile List<Integer> finalPath = List.of();
+
+    /** Condition d’arrêt consultée pendant le calcul (calcul lancé en arrière-plan). */
+    private final BooleanSupplier cancelled;
 
     /** Constructeur par défaut. */
-    public FloydWarshall() {}
+    public FloydWarshall() {
+        this(() -> false);
+    }
+
+    /**
+     * Constructeur pour un calcul interruptible : la condition est consultée à chaque
+     * étape k (ou à chaque bloc diagonal), et le calcul s’arrête par une
+     * {@link CancellationException} dès qu’elle devient vraie.
+     *
+     * @param cancelled condition d’annulation (par exemple {@code task::isCancelled})
+     */
+    public FloydWarshall(BooleanSupplier cancelled) {
+        this.cancelled = cancelled;
+    }
 
     /**
      * Exécute le calcul complet de l’algorithme de Floyd-Warshall
@@ -46,55 +89,79 @@ public class FloydWarshall {
      * @return chaîne décrivant les différentes étapes du calcul
      */
     private String computeFloydWarshall(Graphe g) {
-        int n = g.getMatrix().length;
+        GraphView view = g.getView();
+        n = view.getNbSommets();
         noms = new String[n];
         for (int i = 0; i < n; i++) noms[i] = g.getVertexName(i);
 
-        W = new double[n][n];
-        P = new int[n][n];
-        int[][] M = g.getMatrix();
+        int cells = AllPairsResult.cells(n);
+        W = new long[cells];
+        P = new int[cells];
+        negativeCycle = null;
+        oracle = null;
 
-        // --- Initialisation des matrices ---
-        for (int i = 0; i < n; i++) {
-            for (int j = 0; j < n; j++) {
-                if (i == j) W[i][j] = 0;
-                else if (M[i][j] != 0) W[i][j] = M[i][j];
-                else W[i][j] = Double.POSITIVE_INFINITY;
+        // --- Initialisation des matrices (seuls les arcs existants sont lus) ---
+        BlockedFloydWarshall.initialize(view, W, P);
 
-                P[i][j] = (M[i][j] != 0) ? i : -1;
-            }
+        StringBuilder sb = new StringBuilder();
+        boolean stable;
+        if (n > TRACE_LIMIT) {
+            sb.append("Graphe de ").append(n).append(" sommets : calcul par blocs, ")
+                    .append("matrices intermédiaires non affichées.\n\n");
+            stable = BlockedFloydWarshall.solve(n, W, P, BlockedFloydWarshall.isVectorAvailable(), cancelled);
+        } else {
+            stable = computeWithTrace(sb);
         }
 
-        StringBuilder sb = new StringBuilder();
+        // --- Détection de cycle absorbant ---
+        if (!stable) {
+            sb.append("Cycle absorbant détecté (poids négatif).\n");
+            negativeCycle = NegativeCycle.find(g);
+            if (negativeCycle != null) sb.append("Cycle : ").append(negativeCycle.describe(g)).append("\n");
+            return sb.toString();
+        }
+        oracle = new DistanceOracle(n, W, P);
+
+        if (n <= TRACE_LIMIT) {
+            sb.append("=== Matrice finale des plus courts chemins ===\n");
+            appendMatrix(sb);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Boucle k-i-j classique, avec affichage de la matrice après chaque étape.
+     *
+     * @param sb texte dans lequel les étapes sont ajoutées
+     * @return false si un cycle absorbant a été détecté
+     */
+    private boolean computeWithTrace(StringBuilder sb) {
+        // Les cases sans arc passent de INF à INFINI : la boucle ci-dessous les teste explicitement
+        BlockedFloydWarshall.finish(n, W, P);
         sb.append("=== Matrice initiale ===\n");
         appendMatrix(sb);
 
         // --- Étapes principales (introduction des sommets intermédiaires) ---
         for (int k = 0; k < n; k++) {
+            if (cancelled.getAsBoolean()) throw new CancellationException("Calcul de Floyd-Warshall annulé");
             sb.append("=== Étape k = ").append(k).append(" ===\n");
+            int rowK = k * n;
             for (int i = 0; i < n; i++) {
+                int rowI = i * n;
+                long dik = W[rowI + k];
+                if (dik == Dijkstra.INFINI) continue;
                 for (int j = 0; j < n; j++) {
-                    if (W[i][k] != Double.POSITIVE_INFINITY && W[k][j] != Double.POSITIVE_INFINITY
-                            && W[i][k] + W[k][j] < W[i][j]) {
-                        W[i][j] = W[i][k] + W[k][j];
-                        P[i][j] = P[k][j];
+                    long dkj = W[rowK + j];
+                    if (dkj != Dijkstra.INFINI && dik + dkj < W[rowI + j]) {
+                        W[rowI + j] = dik + dkj;
+                        P[rowI + j] = P[rowK + j];
                     }
                 }
             }
             appendMatrix(sb);
         }
-
-        // --- Détection de cycle absorbant ---
-        for (int i = 0; i < n; i++) {
-            if (W[i][i] < 0) {
-                sb.append("Cycle absorbant détecté (poids négatif).\n");
-                return sb.toString();
-            }
-        }
-
-        sb.append("=== Matrice finale des plus courts chemins ===\n");
-        appendMatrix(sb);
-        return sb.toString();
+        for (int i = 0; i < n; i++) if (W[i * n + i] < 0) return false;
+        return true;
     }
 
     /**
@@ -104,7 +171,6 @@ public class FloydWarshall {
      * @param sb StringBuilder dans lequel la matrice est ajoutée
      */
     private void appendMatrix(StringBuilder sb) {
-        int n = W.length;
         int cellWidth = 9; // Largeur fixe pour l’alignement visuel
 
         // Ligne de séparation
@@ -122,7 +188,7 @@ public class FloydWarshall {
         for (int i = 0; i < n; i++) {
             sb.append("|").append(String.format("%" + cellWidth + "s", noms[i]));
             for (int j = 0; j < n; j++) {
-                String val = (W[i][j] == Double.POSITIVE_INFINITY) ? "∞" : String.valueOf((int) W[i][j]);
+                String val = (W[i * n + j] == Dijkstra.INFINI) ? "∞" : String.valueOf(W[i * n + j]);
                 sb.append("|").append(String.format("%" + cellWidth + "s", val));
             }
             sb.append("|\n").append(sep).append("\n");
@@ -132,35 +198,19 @@ public class FloydWarshall {
 
     /**
      * Construit le chemin le plus court entre deux sommets
-     * à partir de la matrice des prédécesseurs.
+     * à partir des sommets suivants de l’oracle.
      *
      * @param start indice du sommet source
      * @param end indice du sommet destination
      */
     private void buildFinalPath(int start, int end) {
-        finalPath.clear();
-
-        if (W[start][end] == Double.POSITIVE_INFINITY) {
-            return; // Aucun chemin n’existe
-        }
+        setPath(oracle.path(start, end)); // vide si aucun chemin n’existe
+    }
 
-        List<String> cheminStr = new ArrayList<>();
-        int v = end;
-        while (v != -1) {
-            cheminStr.add(noms[v]);
-            v = P[start][v];
-        }
-        Collections.reverse(cheminStr);
-
-        // Conversion des noms en indices
-        for (String nomVille : cheminStr) {
-            for (int i = 0; i < noms.length; i++) {
-                if (noms[i].equals(nomVille)) {
-                    finalPath.add(i);
-                    break;
-                }
-            }
-        }
+    /** Enregistre le chemin final dans l’instance et dans la copie partagée. */
+    private void setPath(List<Integer> chemin) {
+        path = List.copyOf(chemin);
+        finalPath = path;
     }
 
     /**
@@ -172,6 +222,7 @@ public class FloydWarshall {
      * @param start indice du sommet de départ
      * @param end indice du sommet d’arrivée
      * @return chaîne de texte contenant le déroulement complet et le résultat final
+     * @throws CancellationException si le calcul a été annulé (voir {@link #FloydWarshall(BooleanSupplier)})
      */
     public String getResult(Graphe g, int start, int end) {
         String etapes = computeFloydWarshall(g);
@@ -179,30 +230,67 @@ public class FloydWarshall {
         if (start < 0 || start >= noms.length || end < 0 || end >= noms.length)
             return etapes + "Indice invalide.";
 
+        // Les prédécesseurs ne décrivent plus des chemins simples : pas de chemin à afficher
+        if (negativeCycle != null) {
+            setPath(List.of());
+            return etapes;
+        }
+
         buildFinalPath(start, end);
 
-        if (W[start][end] == Double.POSITIVE_INFINITY)
+        if (W[start * n + end] == Dijkstra.INFINI)
             return etapes + "Aucun chemin n'existe.";
 
         etapes += "Chemin le plus court de " + noms[start] + " à " + noms[end] + " : ";
 
-        if (!finalPath.isEmpty()) {
+        if (!path.isEmpty()) {
             StringBuilder cheminStr = new StringBuilder();
-            for (int i = 0; i < finalPath.size(); i++) {
+            for (int i = 0; i < path.size(); i++) {
                 if (i > 0) cheminStr.append(" → ");
-                cheminStr.append(noms[finalPath.get(i)]);
+                cheminStr.append(noms[path.get(i)]);
             }
             etapes += cheminStr.toString();
         }
 
-        etapes += "   →   Distance = " + (int) W[start][end] + "\n";
+        etapes += "   →   Distance = " + W[start * n + end] + "\n";
 
         return etapes;
     }
 
     /**
-     * Retourne la liste des indices correspondant au plus court chemin calculé.
-     * Cette liste est utilisée pour la mise en surbrillance dans l’affichage graphique.
+     * Calcule toutes les distances sans produire de trace, dans des tableaux plats.
+     *
+     * @param g graphe à traiter (poids négatifs acceptés)
+     * @return distances et prédécesseurs, ou null si le graphe contient un cycle absorbant
+     */
+    public static AllPairsResult allPairs(Graphe g) {
+        return BlockedFloydWarshall.compute(g);
+    }
+
+    /** @return oracle des distances du dernier calcul, ou null si un cycle absorbant a été détecté */
+    public DistanceOracle getOracle() {
+        return oracle;
+    }
+
+    /** @return cycle absorbant détecté lors du dernier calcul, ou null s’il n’y en a pas */
+    public NegativeCycle getNegativeCycle() {
+        return negativeCycle;
+    }
+
+    /**
+     * Chemin final du dernier appel de {@link #getResult} sur cette instance. À utiliser
+     * plutôt que {@link #getFinalPath()} quand plusieurs calculs peuvent se chevaucher
+     * (calculs en arrière-plan).
+     *
+     * @return liste non modifiable des indices du chemin final
+     */
+    public List<Integer> getPath() {
+        return path;
+    }
+
+    /**
+     * Retourne la liste des indices correspondant au plus court chemin calculé
+     * par le dernier calcul terminé, quelle que soit l’instance.
      *
      * @return liste des indices du chemin final
      */
@@ -46,27 +46,25 @@ public class GraphManager {
             sg.insertVertex(g.getVertexName(i));
         }
 
-        int[][] matrix = g.getMatrix();
-        int n = g.getNbSommets();
+        GraphView view = g.getView();
+        int n = view.getNbSommets();
 
         // Ajout des arêtes dans le modèle SmartGraph
         for (int i = 0; i < n; i++) {
-            for (int j = 0; j < n; j++) {
-                if (!g.isOriented() && j <= i) continue; // éviter doublons
-
-                if (matrix[i][j] != 0) {
-                    String from = g.getVertexName(i);
-                    String to = g.getVertexName(j);
-                    int weight = matrix[i][j];
-                    String uniqueElement = from + "-" + to + "#" + weight;
-
-                    try {
-                        sg.insertEdge(from, to, uniqueElement);
-                    } catch (Exception ex) {
-                        System.err.println("Erreur ajout " + uniqueElement + " : " + ex.getMessage());
-                    }
+            final int u = i;
+            view.forEachNeighbor(u, (v, weight) -> {
+                if (!g.isOriented() && v <= u) return; // éviter doublons
+
+                String from = g.getVertexName(u);
+                String to = g.getVertexName(v);
+                String uniqueElement = from + "-" + to + "#" + weight;
+
+                try {
+                    sg.insertEdge(from, to, uniqueElement);
+                } catch (Exception ex) {
+                    System.err.println("Erreur ajout " + uniqueElement + " : " + ex.getMessage());
                 }
-            }
+            });
         }
 
         SmartGraphProperties props = new SmartGraphProperties();
@@ -120,6 +118,14 @@ public class GraphManager {
         g.addEdge(7, 9, 75);
         g.addEdge(8, 9, 40);
 
+        // Coordonnées géographiques des villes (latitude, longitude), utilisées par A*
+        double[][] coords = {
+                {48.8566, 2.3522}, {49.1829, -0.3707}, {48.1173, -1.6778}, {47.2184, -1.5536},
+                {44.8378, -0.5792}, {50.6292, 3.0573}, {48.6921, 6.1844}, {47.3220, 5.0415},
+                {45.7640, 4.8357}, {45.1885, 5.7245}
+        };
+        for (int i = 0; i < coords.length; i++) g.setCoordinates(i, coords[i][0], coords[i][1]);
+
         return g;
     }
 
@@ -160,11 +166,27 @@ public class GraphManager {
         return runAlgorithm("Algorithme de Dijkstra", () -> dijkstra.getResult(g, start, end));
     }
 
+    /** Exécution de l’algorithme de Dijkstra bidirectionnel. */
+    public static String[] runBidirectionalDijkstra(Graphe g, int start, int end) {
+        return runAlgorithm("Algorithme de Dijkstra bidirectionnel",
+                () -> BidirectionalDijkstra.getResult(g, start, end));
+    }
+
+    /** Exécution de l’algorithme A* (heuristique à vol d’oiseau si des coordonnées sont connues). */
+    public static String[] runAStar(Graphe g, int start, int end) {
+        return runAlgorithm("Algorithme A*", () -> AStar.getResult(g, start, end));
+    }
+
     /** Exécution de l’algorithme de Bellman-Ford. */
     public static String[] runBellmanFord(BellmanFord bf, Graphe g, int start, int end) {
         return runAlgorithm("Algorithme de Bellman-Ford", () -> bf.getResult(g, start, end));
     }
 
+    /** Exécution de l’algorithme de Bellman-Ford à base de file (SPFA). */
+    public static String[] runSPFA(SPFA spfa, Graphe g, int start, int end) {
+        return runAlgorithm("Algorithme de Bellman-Ford (SPFA)", () -> spfa.getResult(g, start, end));
+    }
+
     /** Exécution de l’algorithme de Floyd-Warshall. */
     public static String[] runFloydWarshall(FloydWarshall fw, Graphe g, int start, int end) {
         return runAlgorithm("Algorithme de Floyd-Warshall", () -> fw.getResult(g, start, end));
@@ -194,12 +216,7 @@ public class GraphManager {
      * @return true si une arête a un poids négatif, false sinon
      */
     public static boolean hasNegativeWeight(Graphe g) {
-        int[][] mat = g.getMatrix();
-        for (int i = 0; i < mat.length; i++)
-            for (int j = 0; j < mat[i].length; j++)
-                if (mat[i][j] < 0)
-                    return true;
-        return false;
+        return g.getCSR().minWeight() < 0;
     }
 
     /**
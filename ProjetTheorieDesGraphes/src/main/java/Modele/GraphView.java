@@ -0,0 +1,43 @@
+package Modele;
+
+/**
+ * Vue en lecture seule sur les arêtes d’un graphe.
+ *
+ * Contrairement à {@link Graphe#getMatrix()}, qui recopie toute la matrice d’adjacence,
+ * une vue ne duplique aucune donnée : elle lit directement le stockage du graphe
+ * (matrice ou CSR). Elle n’expose aucune méthode de modification.
+ *
+ * Elle est destinée aux algorithmes et aux fonctions d’affichage qui ont seulement
+ * besoin de consulter les poids et les voisins.
+ */
+public interface GraphView {
+
+    /** @return nombre de sommets du graphe */
+    int getNbSommets();
+
+    /** @return true si le graphe est orienté */
+    boolean isOriented();
+
+    /**
+     * Retourne le poids de l’arc (u, v).
+     *
+     * @param u sommet source
+     * @param v sommet destination
+     * @return poids de l’arc, ou 0 s’il n’existe pas
+     */
+    int weight(int u, int v);
+
+    /**
+     * @param u sommet
+     * @return nombre d’arcs sortants de u
+     */
+    int degree(int u);
+
+    /**
+     * Appelle {@code action} pour chaque arc sortant de u, par cible croissante.
+     *
+     * @param u sommet source
+     * @param action traitement appliqué à chaque couple (voisin, poids)
+     */
+    void forEachNeighbor(int u, NeighborConsumer action);
+}
@@ -4,7 +4,8 @@ import java.util.Arrays;
 import java.util.List;
 
 /**
- * Classe représentant un graphe sous forme de matrice d’adjacence.
+ * Classe représentant un graphe sous forme de matrice d’adjacence ou de listes
+ * d’adjacence compressées (voir {@link Stockage}).
  *
  * Cette classe permet de créer, modifier et afficher un graphe orienté ou non orienté,
  * pondéré ou non pondéré. Les sommets sont indexés de 0 à n-1 et peuvent être associés
@@ -14,6 +15,10 @@ import java.util.List;
  * - Une arête présente a une valeur correspondant à son poids (ou 1 si non pondéré).
  * - Pour un graphe non orienté, la matrice est symétrique.
  *
+ * Quel que soit le stockage, les algorithmes parcourent les voisins via
+ * {@link #getCSR()} : une vue CSR construite à la demande puis conservée
+ * tant que le graphe n’est pas modifié. Un parcours complet coûte alors O(n + m).
+ *
  * Cette structure est utilisée par les algorithmes : BFS, DFS, Dijkstra, Kruskal,
  * Prim, Bellman-Ford et Floyd-Warshall.
  */
@@ -28,12 +33,39 @@ public class Graphe {
     /** Indique si le graphe est pondéré (true = pondéré, false = non pondéré). */
     private final boolean weighted;
 
-    /** Matrice d’adjacence représentant les arêtes et leurs poids. */
+    /** Représentation mémoire choisie à la construction. */
+    private final Stockage stockage;
+
+    /** Matrice d’adjacence représentant les arêtes et leurs poids (null en stockage CSR). */
     private final int[][] mat;
 
+    /** Stockage CSR : cibles des arcs sortants de chaque sommet (listes modifiables). */
+    private final int[][] listeCibles;
+
+    /** Stockage CSR : poids des arcs sortants de chaque sommet. */
+    private final int[][] listePoids;
+
+    /** Stockage CSR : nombre d’arcs valides dans chaque liste. */
+    private final int[] listeTailles;
+
+    /** Vue CSR compacte, reconstruite après chaque modification (null si périmée). */
+    private AdjacenceCSR csr;
+
+    /** Vue CSR des arcs inversés (graphes orientés uniquement, null si périmée). */
+    private AdjacenceCSR reverseCsr;
+
+    /** Vue en lecture seule partagée, créée une seule fois. */
+    private final GraphView view = new Vue();
+
     /** Tableau contenant les noms des sommets pour un affichage lisible. */
     private final String[] vertexNames;
 
+    /** Latitude de chaque sommet en degrés (NaN si inconnue), null si aucune coordonnée. */
+    private double[] latitudes;
+
+    /** Longitude de chaque sommet en degrés (NaN si inconnue). */
+    private double[] longitudes;
+
     /**
      * Constructeur de base : crée un graphe sans noms personnalisés.
      * Les sommets sont nommés automatiquement S0, S1, S2, ...
@@ -55,13 +87,41 @@ public class Graphe {
      * @param vertexNames tableau contenant les noms des sommets
      */
     public Graphe(int n, boolean directed, boolean weighted, String[] vertexNames) {
+        this(n, directed, weighted, vertexNames, Stockage.MATRICE);
+    }
+
+    /**
+     * Constructeur complet permettant de choisir la représentation mémoire.
+     * Le stockage {@link Stockage#CSR} n’alloue pas de matrice n × n et
+     * convient aux grands graphes peu denses.
+     *
+     * @param n nombre de sommets
+     * @param directed true si le graphe est orienté
+     * @param weighted true si le graphe est pondéré
+     * @param vertexNames tableau contenant les noms des sommets (peut être null)
+     * @param stockage représentation mémoire du graphe
+     */
+    public Graphe(int n, boolean directed, boolean weighted, String[] vertexNames, Stockage stockage) {
         if (n <= 0) throw new IllegalArgumentException("n doit être > 0");
+        if (stockage == null) throw new IllegalArgumentException("stockage ne doit pas être null");
         this.n = n;
         this.directed = directed;
         this.weighted = weighted;
-        this.mat = new int[n][n];
+        this.stockage = stockage;
         this.vertexNames = new String[n];
 
+        if (stockage == Stockage.MATRICE) {
+            this.mat = new int[n][n];
+            this.listeCibles = null;
+            this.listePoids = null;
+            this.listeTailles = null;
+        } else {
+            this.mat = null;
+            this.listeCibles = new int[n][];
+            this.listePoids = new int[n][];
+            this.listeTailles = new int[n];
+        }
+
         // Initialisation des noms de sommets
         for (int i = 0; i < n; i++) {
             if (vertexNames != null && i < vertexNames.length && vertexNames[i] != null) {
@@ -95,8 +155,8 @@ public class Graphe {
         checkVertex(u);
         checkVertex(v);
         int w = weighted ? weight : 1;
-        mat[u][v] = w;
-        if (!directed) mat[v][u] = w;
+        setArc(u, v, w);
+        if (!directed) setArc(v, u, w);
     }
 
     /**
@@ -122,21 +182,92 @@ public class Graphe {
     public void removeEdge(int u, int v) {
         checkVertex(u);
         checkVertex(v);
-        mat[u][v] = 0;
-        if (!directed) mat[v][u] = 0;
+        setArc(u, v, 0);
+        if (!directed) setArc(v, u, 0);
     }
 
     /**
      * Retourne une copie complète de la matrice d’adjacence.
+     * En stockage CSR, la matrice dense est reconstruite (coût mémoire O(n²)).
      *
      * @return copie indépendante de la matrice d’adjacence
      */
     public int[][] getMatrix() {
         int[][] copy = new int[n][n];
-        for (int i = 0; i < n; i++) System.arraycopy(mat[i], 0, copy[i], 0, n);
+        if (mat != null) {
+            for (int i = 0; i < n; i++) System.arraycopy(mat[i], 0, copy[i], 0, n);
+        } else {
+            for (int u = 0; u < n; u++)
+                for (int i = 0; i < listeTailles[u]; i++) copy[u][listeCibles[u][i]] = listePoids[u][i];
+        }
         return copy;
     }
 
+    /**
+     * Retourne la vue CSR (offsets / cibles / poids) des arêtes du graphe.
+     * La vue est construite au premier appel puis réutilisée tant que le graphe
+     * n’est pas modifié : aucun tableau n’est recopié entre deux appels.
+     *
+     * @return représentation CSR immuable des arcs du graphe
+     */
+    public synchronized AdjacenceCSR getCSR() {
+        if (csr == null) {
+            csr = (mat != null)
+                    ? AdjacenceCSR.fromMatrix(mat, directed)
+                    : AdjacenceCSR.fromLists(n, directed, listeCibles, listePoids, listeTailles);
+        }
+        return csr;
+    }
+
+    /**
+     * Retourne la vue CSR des arcs entrants : chaque arc u → v y apparaît comme v → u.
+     * Pour un graphe non orienté, il s’agit de la même vue que {@link #getCSR()}.
+     *
+     * @return représentation CSR du graphe transposé
+     */
+    public synchronized AdjacenceCSR getReverseCSR() {
+        if (!directed) return getCSR();
+        if (reverseCsr == null) reverseCsr = getCSR().transpose();
+        return reverseCsr;
+    }
+
+    /**
+     * Retourne une vue en lecture seule du graphe, sans copie de la matrice.
+     * La vue reflète toujours l’état courant du graphe.
+     *
+     * @return vue {@link GraphView} associée à ce graphe
+     */
+    public GraphView getView() {
+        return view;
+    }
+
+    /**
+     * Retourne le nombre d’arcs sortants d’un sommet.
+     *
+     * @param u indice du sommet
+     * @return degré sortant de u
+     */
+    public int degree(int u) {
+        checkVertex(u);
+        return getCSR().degree(u);
+    }
+
+    /**
+     * Parcourt les voisins d’un sommet (par indice croissant) sans allocation.
+     *
+     * @param u indice du sommet
+     * @param action traitement appliqué à chaque couple (voisin, poids)
+     */
+    public void forEachNeighbor(int u, NeighborConsumer action) {
+        checkVertex(u);
+        getCSR().forEachNeighbor(u, action);
+    }
+
+    /** @return représentation mémoire du graphe */
+    public Stockage getStockage() {
+        return stockage;
+    }
+
     /**
      * Affiche la matrice d’adjacence dans la console
      * avec un formatage dynamique et lisible.
@@ -168,12 +299,66 @@ public class Graphe {
         for (int i = 0; i < n; i++) {
             System.out.printf("%" + maxNameLen + "s |", vertexNames[i]);
             for (int j = 0; j < n; j++) {
-                System.out.printf("%" + cellWidth + "d", mat[i][j]);
+                System.out.printf("%" + cellWidth + "d", poidsInterne(i, j));
             }
             System.out.println();
         }
     }
 
+    /**
+     * Écrit le poids d’un arc orienté (0 = suppression) dans le stockage choisi
+     * et invalide la vue CSR.
+     */
+    private synchronized void setArc(int u, int v, int w) {
+        csr = null;
+        reverseCsr = null;
+        if (mat != null) {
+            mat[u][v] = w;
+            return;
+        }
+
+        int size = listeTailles[u];
+        int pos = indexOfArc(u, v);
+        if (pos >= 0) {
+            if (w != 0) {
+                listePoids[u][pos] = w;
+            } else {
+                // Suppression : le dernier arc prend la place de l’arc retiré
+                listeCibles[u][pos] = listeCibles[u][size - 1];
+                listePoids[u][pos] = listePoids[u][size - 1];
+                listeTailles[u] = size - 1;
+            }
+            return;
+        }
+        if (w == 0) return;
+
+        if (listeCibles[u] == null) {
+            listeCibles[u] = new int[4];
+            listePoids[u] = new int[4];
+        } else if (size == listeCibles[u].length) {
+            listeCibles[u] = Arrays.copyOf(listeCibles[u], size * 2);
+            listePoids[u] = Arrays.copyOf(listePoids[u], size * 2);
+        }
+        listeCibles[u][size] = v;
+        listePoids[u][size] = w;
+        listeTailles[u] = size + 1;
+    }
+
+    /** Recherche la position de l’arc (u, v) dans la liste de u (stockage CSR), -1 si absent. */
+    private int indexOfArc(int u, int v) {
+        for (int i = 0; i < listeTailles[u]; i++) {
+            if (listeCibles[u][i] == v) return i;
+        }
+        return -1;
+    }
+
+    /** Poids de l’arc (u, v) sans vérification des indices, 0 si absent. */
+    private int poidsInterne(int u, int v) {
+        if (mat != null) return mat[u][v];
+        int pos = indexOfArc(u, v);
+        return pos >= 0 ? listePoids[u][pos] : 0;
+    }
+
     /** Vérifie qu’un sommet existe dans le graphe. */
     private void checkVertex(int v) {
         if (v < 0 || v >= n) throw new IndexOutOfBoundsException("Sommet " + v + " invalide");
@@ -231,11 +416,90 @@ public class Graphe {
     public int getPoids(int u, int v) {
         checkVertex(u);
         checkVertex(v);
-        return mat[u][v];
+        return poidsInterne(u, v);
     }
 
     /** @return true si le graphe est orienté, false sinon */
     public boolean isOriented() {
         return directed;
     }
+
+    /**
+     * Associe des coordonnées géographiques à un sommet (ville).
+     * Elles sont utilisées par les heuristiques de l’algorithme A*.
+     *
+     * @param v indice du sommet
+     * @param latitude latitude en degrés
+     * @param longitude longitude en degrés
+     */
+    public void setCoordinates(int v, double latitude, double longitude) {
+        checkVertex(v);
+        if (latitudes == null) {
+            latitudes = new double[n];
+            longitudes = new double[n];
+            Arrays.fill(latitudes, Double.NaN);
+            Arrays.fill(longitudes, Double.NaN);
+        }
+        latitudes[v] = latitude;
+        longitudes[v] = longitude;
+    }
+
+    /** @return true si tous les sommets possèdent des coordonnées */
+    public boolean hasCoordinates() {
+        if (latitudes == null) return false;
+        for (int v = 0; v < n; v++) {
+            if (Double.isNaN(latitudes[v]) || Double.isNaN(longitudes[v])) return false;
+        }
+        return true;
+    }
+
+    /**
+     * @param v indice du sommet
+     * @return latitude du sommet en degrés, ou NaN si inconnue
+     */
+    public double getLatitude(int v) {
+        checkVertex(v);
+        return latitudes == null ? Double.NaN : latitudes[v];
+    }
+
+    /**
+     * @param v indice du sommet
+     * @return longitude du sommet en degrés, ou NaN si inconnue
+     */
+    public double getLongitude(int v) {
+        checkVertex(v);
+        return longitudes == null ? Double.NaN : longitudes[v];
+    }
+
+    /**
+     * Implémentation de {@link GraphView} lisant directement le stockage du graphe :
+     * poids via la matrice (ou les listes), voisins via la vue CSR en cache.
+     */
+    private final class Vue implements GraphView {
+
+        @Override
+        public int getNbSommets() {
+            return n;
+        }
+
+        @Override
+        public boolean isOriented() {
+            return directed;
+        }
+
+        @Override
+        public int weight(int u, int v) {
+            return getPoids(u, v);
+        }
+
+        @Override
+        public int degree(int u) {
+            return Graphe.this.degree(u);
+        }
+
+        @Override
+        public void forEachNeighbor(int u, NeighborConsumer action) {
+            Graphe.this.forEachNeighbor(u, action);
+        }
+    }
 }
@@ -0,0 +1,82 @@
+package Modele;
+
+/**
+ * Heuristique A* fondée sur la distance orthodromique (à vol d’oiseau)
+ * entre les coordonnées géographiques des sommets.
+ *
+ * Les poids du graphe ne sont pas forcément exprimés en kilomètres : la distance
+ * géographique est donc multipliée par un facteur d’échelle calculé une seule fois,
+ * égal au plus petit rapport poids / distance géographique sur l’ensemble des arcs.
+ * Avec ce facteur, l’estimation ne dépasse jamais la longueur d’un chemin réel
+ * (heuristique admissible et cohérente), quelles que soient les unités des poids.
+ */
+public final class GreatCircleHeuristic implements Heuristic {
+
+    /** Rayon moyen de la Terre en kilomètres. */
+    private static final double EARTH_RADIUS_KM = 6371.0;
+
+    /** Latitudes des sommets en radians. */
+    private final double[] lat;
+
+    /** Longitudes des sommets en radians. */
+    private final double[] lon;
+
+    /** Facteur de conversion kilomètres → unités de poids du graphe. */
+    private final double scale;
+
+    /**
+     * Prépare l’heuristique pour un graphe dont tous les sommets ont des coordonnées.
+     *
+     * @param g graphe à poids positifs possédant des coordonnées
+     */
+    public GreatCircleHeuristic(Graphe g) {
+        if (!g.hasCoordinates())
+            throw new IllegalArgumentException("Le graphe ne possède pas de coordonnées pour tous les sommets");
+
+        int n = g.getNbSommets();
+        lat = new double[n];
+        lon = new double[n];
+        for (int v = 0; v < n; v++) {
+            lat[v] = Math.toRadians(g.getLatitude(v));
+            lon[v] = Math.toRadians(g.getLongitude(v));
+        }
+
+        // Plus petit rapport poids / distance géographique parmi les arcs
+        AdjacenceCSR csr = g.getCSR();
+        double minRatio = Double.POSITIVE_INFINITY;
+        for (int u = 0; u < n; u++) {
+            for (int e = csr.firstArc(u); e < csr.endArc(u); e++) {
+                double km = kilometers(u, csr.arcTarget(e));
+                if (km > 0) minRatio = Math.min(minRatio, csr.arcWeight(e) / km);
+            }
+        }
+        // Légère marge pour absorber les erreurs d’arrondi des calculs flottants
+        scale = Double.isInfinite(minRatio) ? 0 : Math.max(0, minRatio * (1 - 1e-9));
+    }
+
+    /**
+     * Distance orthodromique entre deux sommets (formule de haversine).
+     *
+     * @param u premier sommet
+     * @param v second sommet
+     * @return distance en kilomètres
+     */
+    public double kilometers(int u, int v) {
+        double dLat = lat[v] - lat[u];
+        double dLon = lon[v] - lon[u];
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(lat[u]) * Math.cos(lat[v]) * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+    /** @return facteur appliqué aux kilomètres pour obtenir une borne en unités de poids */
+    public double getScale() {
+        return scale;
+    }
+
+    @Override
+    public long lowerBound(int v, int target) {
+        // Arrondi inférieur : l’estimation reste admissible
+        return (long) Math.floor(scale * kilometers(v, target));
+    }
+}
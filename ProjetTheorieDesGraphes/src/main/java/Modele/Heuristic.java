@@ -0,0 +1,30 @@
+package Modele;
+
+/**
+ * Heuristique utilisée par l’algorithme A* ({@link AStar}).
+ *
+ * Une heuristique estime la distance restante entre un sommet et la destination.
+ * Pour que A* renvoie un plus court chemin exact, elle doit être admissible :
+ * l’estimation ne doit jamais dépasser la vraie distance.
+ */
+@FunctionalInterface
+public interface Heuristic {
+
+    /**
+     * Retourne une borne inférieure de la distance de v à target.
+     *
+     * @param v sommet courant
+     * @param target sommet destination
+     * @return estimation admissible (positive ou nulle) de la distance restante
+     */
+    long lowerBound(int v, int target);
+
+    /**
+     * Heuristique nulle : A* se comporte alors exactement comme Dijkstra.
+     *
+     * @return heuristique renvoyant toujours 0
+     */
+    static Heuristic zero() {
+        return (v, target) -> 0;
+    }
+}
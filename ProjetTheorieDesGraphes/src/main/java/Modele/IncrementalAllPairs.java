@@ -0,0 +1,207 @@
+package Modele;
+
+import java.util.*;
+
+/**
+ * Plus courts chemins entre toutes les paires, maintenus au fil des modifications d’arêtes.
+ *
+ * Les matrices des distances et des prédécesseurs (à plat, sémantique de la matrice P
+ * de {@link FloydWarshall}) sont calculées une fois, puis mises à jour à chaque appel
+ * de {@link #setEdge(int, int, int)} au lieu de relancer un calcul complet en O(n³) :
+ *
+ * - ajout d’un arc a → b ou baisse de son poids w : tout nouveau plus court chemin
+ *   passe par cet arc, donc d(i, j) ← min(d(i, j), d(i, a) + w + d(b, j)) pour tous
+ *   les couples, en O(n²). La ligne b et la colonne a ne changent pas (sinon il y
+ *   aurait un cycle absorbant), ce qui permet la mise à jour sur place.
+ *
+ * - hausse du poids ou suppression : seules les lignes i dont l’arbre des plus courts
+ *   chemins utilise l’arc (P[i][b] = a) peuvent changer ; elles sont recalculées
+ *   (Dijkstra, ou SPFA s’il existe des poids négatifs), en parallèle. Si plus de la
+ *   moitié des lignes sont touchées, tout est recalculé avec {@link AllPairsShortestPaths}.
+ *
+ * Pour un graphe non orienté, chaque arête correspond à deux arcs, traités l’un après l’autre.
+ *
+ * Exemple :
+ *
+ * IncrementalAllPairs apsp = IncrementalAllPairs.of(g);
+ * apsp.setEdge(paris, lyon, 350);   // modifie aussi le graphe g
+ * long d = apsp.distance(paris, marseille);
+ */
+public final class IncrementalAllPairs {
+
+    /** Graphe suivi (modifié par {@link #setEdge}). */
+    private final Graphe g;
+
+    /** Nombre de sommets. */
+    private final int n;
+
+    /** Distances minimales, ligne par ligne. */
+    private long[] dist;
+
+    /** Prédécesseurs, ligne par ligne. */
+    private int[] pred;
+
+    /** Nombre de lignes recalculées lors de la dernière modification (n pour un calcul complet). */
+    private int lastRecomputedRows;
+
+    private IncrementalAllPairs(Graphe g, AllPairsResult r) {
+        this.g = g;
+        this.n = r.getNbSommets();
+        this.dist = r.getDistances();
+        this.pred = r.getPredecessors();
+    }
+
+    /**
+     * Calcule les matrices initiales d’un graphe.
+     *
+     * @param g graphe à suivre (poids négatifs acceptés)
+     * @return l’objet de suivi, ou null si le graphe contient un cycle absorbant
+     */
+    public static IncrementalAllPairs of(Graphe g) {
+        AllPairsResult r = AllPairsShortestPaths.compute(g);
+        return r == null ? null : new IncrementalAllPairs(g, r);
+    }
+
+    /**
+     * Modifie une arête du graphe (ajout, nouveau poids ou suppression) et met à jour les matrices.
+     * Si la modification crée un cycle absorbant, elle est annulée : le graphe et les
+     * matrices restent inchangés.
+     *
+     * @param u sommet de départ
+     * @param v sommet d’arrivée
+     * @param weight nouveau poids (0 pour supprimer l’arête)
+     * @return false si la modification a été refusée (cycle absorbant)
+     */
+    public boolean setEdge(int u, int v, int weight) {
+        int old = g.getPoids(u, v);
+        if (weight == 0) g.removeEdge(u, v);
+        else g.addEdge(u, v, weight);
+        int w = g.getPoids(u, v); // poids réellement enregistré (1 si le graphe n’est pas pondéré)
+        lastRecomputedRows = 0;
+        if (w == old) return true;
+
+        boolean twoArcs = !g.isOriented() && u != v;
+        if (w != 0 && (old == 0 || w < old)) {
+            // Cycle absorbant : d(v, u) + w < 0, ou arête non orientée de poids négatif (u → v → u)
+            boolean cycle = createsCycle(u, v, w) || (twoArcs && (w < 0 || createsCycle(v, u, w)));
+            if (cycle) {
+                if (old == 0) g.removeEdge(u, v);
+                else g.addEdge(u, v, old);
+                return false;
+            }
+            relaxThrough(u, v, w);
+            if (twoArcs) relaxThrough(v, u, w);
+        } else {
+            recomputeRowsUsing(u, v, twoArcs);
+        }
+        return true;
+    }
+
+    /**
+     * Supprime une arête du graphe et met à jour les matrices.
+     *
+     * @param u sommet de départ
+     * @param v sommet d’arrivée
+     */
+    public void removeEdge(int u, int v) {
+        setEdge(u, v, 0);
+    }
+
+    /** @return true si l’arc a → b de poids w fermerait un circuit de poids négatif */
+    private boolean createsCycle(int a, int b, int w) {
+        long dba = dist[b * n + a];
+        return dba != Dijkstra.INFINI && dba + w < 0;
+    }
+
+    /**
+     * Mise à jour en O(n²) après l’ajout (ou la baisse) de l’arc a → b de poids w.
+     * Une ligne i n’est parcourue que si d(i, a) + w &lt; d(i, b) : sinon, par
+     * l’inégalité triangulaire, aucun chemin passant par l’arc n’est plus court.
+     */
+    private void relaxThrough(int a, int b, int w) {
+        int rowB = b * n;
+        int[] cols = new int[n];
+        int nbCols = 0;
+        for (int j = 0; j < n; j++) if (dist[rowB + j] != Dijkstra.INFINI) cols[nbCols++] = j;
+        final int count = nbCols;
+
+        ParallelFor.range(0, n, 64, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                int rowI = i * n;
+                long dia = dist[rowI + a];
+                if (dia == Dijkstra.INFINI) continue;
+                long base = dia + w;
+                if (base >= dist[rowI + b]) continue;
+                for (int c = 0; c < count; c++) {
+                    int j = cols[c];
+                    long nd = base + dist[rowB + j];
+                    if (nd < dist[rowI + j]) {
+                        dist[rowI + j] = nd;
+                        pred[rowI + j] = (j == b) ? a : pred[rowB + j];
+                    }
+                }
+            }
+        });
+    }
+
+    /**
+     * Recalcule les lignes dont l’arbre des plus courts chemins utilise l’arc u → v
+     * (ou v → u pour une arête non orientée), après la hausse de son poids ou sa suppression.
+     */
+    private void recomputeRowsUsing(int u, int v, boolean twoArcs) {
+        int[] rows = new int[n];
+        int k = 0;
+        for (int i = 0; i < n; i++) {
+            int row = i * n;
+            if (pred[row + v] == u || (twoArcs && pred[row + u] == v)) rows[k++] = i;
+        }
+        lastRecomputedRows = k;
+        if (k == 0) return;
+
+        if (2 * k > n) {
+            AllPairsResult r = AllPairsShortestPaths.compute(g); // une hausse ne crée pas de cycle absorbant
+            dist = r.getDistances();
+            pred = r.getPredecessors();
+            lastRecomputedRows = n;
+            return;
+        }
+
+        AdjacenceCSR csr = g.getCSR();
+        boolean negative = csr.minWeight() < 0;
+        ParallelFor.range(0, k, 1, (from, to) -> {
+            long[] d = new long[n];
+            int[] p = new int[n];
+            for (int t = from; t < to; t++) {
+                int i = rows[t];
+                if (negative) SPFA.search(csr, new int[]{i}, d, p);
+                else Dijkstra.search(csr, i, -1, d, p);
+                System.arraycopy(d, 0, dist, i * n, n);
+                System.arraycopy(p, 0, pred, i * n, n);
+            }
+        });
+    }
+
+    /** @return graphe suivi */
+    public Graphe getGraphe() {
+        return g;
+    }
+
+    /**
+     * @param i sommet de départ
+     * @param j sommet d’arrivée
+     * @return distance minimale actuelle de i à j, ou {@link Dijkstra#INFINI} s’il n’existe aucun chemin
+     */
+    public long distance(int i, int j) {
+        return dist[i * n + j];
+    }
+
+    /** @return copie immuable des matrices actuelles */
+    public AllPairsResult snapshot() {
+        return new AllPairsResult(n, dist.clone(), pred.clone());
+    }
+
+    /** @return nombre de lignes recalculées lors de la dernière modification (0 pour une mise à jour en O(n²)) */
+    public int getLastRecomputedRows() {
+        return lastRecomputedRows;
+    }
+}
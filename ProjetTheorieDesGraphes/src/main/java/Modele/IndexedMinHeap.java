@@ -0,0 +1,179 @@
+package Modele;
+
+import java.util.Arrays;
+
+/**
+ * Tas d-aire minimum indexé, stocké dans des tableaux primitifs (binaire par défaut).
+ *
+ * Chaque élément est un sommet (entier entre 0 et n-1) associé à une clé {@code long}
+ * (distance provisoire, clé de Prim, etc.). Le tableau {@code pos} mémorise la
+ * position de chaque sommet dans le tas, ce qui permet la diminution de clé
+ * (decrease-key) en O(log n) sans créer d’objet.
+ *
+ * Utilisé par les variantes de Dijkstra et par {@link Prim} pour extraire le sommet de
+ * clé minimale en O(log n) au lieu d’un balayage linéaire de tous les sommets.
+ *
+ * Avec d enfants par nœud, le tas est moins profond (log_d n) : la diminution de clé,
+ * plus fréquente que l’extraction quand il y a beaucoup d’arêtes, devient moins chère,
+ * au prix de d comparaisons par niveau lors de l’extraction.
+ */
+public class IndexedMinHeap {
+
+    /** heap[i] = sommet rangé à la position i du tas. */
+    private final int[] heap;
+
+    /** pos[v] = position du sommet v dans le tas, ou -1 s’il n’y est pas. */
+    private final int[] pos;
+
+    /** keys[v] = clé courante du sommet v (valide seulement si v est dans le tas). */
+    private final long[] keys;
+
+    /** Nombre d’enfants de chaque nœud. */
+    private final int arity;
+
+    /** Nombre d’éléments présents dans le tas. */
+    private int size;
+
+    /**
+     * Crée un tas binaire vide pouvant contenir les sommets 0 à n-1.
+     *
+     * @param n nombre de sommets
+     */
+    public IndexedMinHeap(int n) {
+        this(n, 2);
+    }
+
+    /**
+     * Crée un tas d-aire vide pouvant contenir les sommets 0 à n-1.
+     *
+     * @param n nombre de sommets
+     * @param arity nombre d’enfants de chaque nœud (au moins 2)
+     */
+    public IndexedMinHeap(int n, int arity) {
+        if (arity < 2) throw new IllegalArgumentException("Arité invalide : " + arity);
+        this.arity = arity;
+        heap = new int[n];
+        pos = new int[n];
+        keys = new long[n];
+        Arrays.fill(pos, -1);
+    }
+
+    /** @return true si le tas ne contient aucun sommet */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /** @return nombre de sommets présents dans le tas */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @param v sommet
+     * @return true si v est actuellement dans le tas
+     */
+    public boolean contains(int v) {
+        return pos[v] >= 0;
+    }
+
+    /**
+     * @param v sommet présent dans le tas
+     * @return clé courante de v
+     */
+    public long key(int v) {
+        return keys[v];
+    }
+
+    /** @return clé minimale du tas (le tas ne doit pas être vide) */
+    public long peekKey() {
+        return keys[heap[0]];
+    }
+
+    /** @return sommet de clé minimale, sans le retirer (le tas ne doit pas être vide) */
+    public int peek() {
+        return heap[0];
+    }
+
+    /**
+     * Insère v avec la clé donnée, ou diminue sa clé s’il est déjà présent
+     * avec une clé plus grande.
+     *
+     * @param v sommet
+     * @param key nouvelle clé
+     * @return true si le tas a été modifié
+     */
+    public boolean insertOrDecrease(int v, long key) {
+        int i = pos[v];
+        if (i < 0) {
+            i = size++;
+            heap[i] = v;
+            pos[v] = i;
+        } else if (key >= keys[v]) {
+            return false;
+        }
+        keys[v] = key;
+        siftUp(i);
+        return true;
+    }
+
+    /**
+     * Retire et retourne le sommet de clé minimale.
+     *
+     * @return sommet extrait (le tas ne doit pas être vide)
+     */
+    public int poll() {
+        int top = heap[0];
+        pos[top] = -1;
+        size--;
+        if (size > 0) {
+            int last = heap[size];
+            heap[0] = last;
+            pos[last] = 0;
+            siftDown(0);
+        }
+        return top;
+    }
+
+    /** Vide le tas (coût proportionnel au nombre d’éléments restants). */
+    public void clear() {
+        for (int i = 0; i < size; i++) pos[heap[i]] = -1;
+        size = 0;
+    }
+
+    /** Remonte l’élément en position i tant que sa clé est inférieure à celle de son parent. */
+    private void siftUp(int i) {
+        int v = heap[i];
+        long k = keys[v];
+        while (i > 0) {
+            int p = (i - 1) / arity;
+            int pv = heap[p];
+            if (keys[pv] <= k) break;
+            heap[i] = pv;
+            pos[pv] = i;
+            i = p;
+        }
+        heap[i] = v;
+        pos[v] = i;
+    }
+
+    /** Descend l’élément en position i tant qu’un de ses enfants a une clé plus petite. */
+    private void siftDown(int i) {
+        int v = heap[i];
+        long k = keys[v];
+        while (true) {
+            int first = arity * i + 1;
+            if (first >= size) break;
+            // Plus petit des (au plus) d enfants ; le premier en cas d’égalité
+            int c = first;
+            int last = Math.min(first + arity, size);
+            for (int j = first + 1; j < last; j++) if (keys[heap[j]] < keys[heap[c]]) c = j;
+            int cv = heap[c];
+            if (keys[cv] >= k) break;
+            heap[i] = cv;
+            pos[cv] = i;
+            i = c;
+        }
+        heap[i] = v;
+        pos[v] = i;
+    }
+}
@@ -0,0 +1,207 @@
+package Modele;
+
+import java.util.*;
+
+/**
+ * Variantes de {@link Dijkstra} exploitant des poids entiers positifs bornés,
+ * sans tas à comparaisons.
+ *
+ * - {@link Queue#DIAL} : file à seaux de Dial. Avec un poids maximal C, toutes les
+ *   distances provisoires sont comprises entre d et d + C, où d est la dernière
+ *   distance extraite : C + 1 seaux circulaires suffisent. Insertion, diminution
+ *   et suppression se font en O(1) ; le temps total est O(m + n + D), D étant
+ *   la plus grande distance.
+ * - {@link Queue#RADIX_HEAP} : tas radix monotone ({@link RadixHeap}), en
+ *   O(m + n log C), adapté aux poids maximaux trop grands pour Dial.
+ *
+ * {@link #select(AdjacenceCSR)} choisit automatiquement Dial quand le poids maximal
+ * ne dépasse pas {@link #DIAL_MAX_WEIGHT} (c’est le cas du graphe des villes,
+ * dont le poids maximal est 150), et le tas radix sinon.
+ *
+ * Les distances sont identiques à celles de {@link Dijkstra} ; les prédécesseurs
+ * peuvent différer en cas d’égalité entre plusieurs plus courts chemins.
+ */
+public final class IntegerDijkstra {
+
+    /** File de priorité utilisée par la recherche. */
+    public enum Queue {
+        /**
+         * Seaux circulaires de Dial (poids maximal petit). Au-delà de
+         * {@link #DIAL_MAX_WEIGHT}, la recherche utilise le tas radix à la place.
+         */
+        DIAL,
+
+        /** Tas radix monotone (poids maximal quelconque). */
+        RADIX_HEAP
+    }
+
+    /** Poids maximal au-delà duquel Dial n’est pas utilisé (un seau par valeur de poids). */
+    public static final int DIAL_MAX_WEIGHT = 1 << 16;
+
+    private IntegerDijkstra() {
+    }
+
+    /**
+     * @param csr arcs du graphe
+     * @return Dial si le poids maximal est au plus {@link #DIAL_MAX_WEIGHT}, le tas radix sinon
+     */
+    public static Queue select(AdjacenceCSR csr) {
+        return csr.maxWeight() <= DIAL_MAX_WEIGHT ? Queue.DIAL : Queue.RADIX_HEAP;
+    }
+
+    /**
+     * Calcule l’arbre des plus courts chemins avec la file choisie automatiquement.
+     *
+     * @param g graphe à poids positifs
+     * @param source sommet source
+     * @return arbre des plus courts chemins
+     */
+    public static ShortestPathTree shortestPathTree(Graphe g, int source) {
+        return shortestPathTree(g, source, select(g.getCSR()));
+    }
+
+    /**
+     * Calcule l’arbre des plus courts chemins avec une file donnée.
+     *
+     * @param g graphe à poids positifs
+     * @param source sommet source
+     * @param queue file de priorité à utiliser (Dial seulement jusqu’à {@link #DIAL_MAX_WEIGHT})
+     * @return arbre des plus courts chemins
+     */
+    public static ShortestPathTree shortestPathTree(Graphe g, int source, Queue queue) {
+        AdjacenceCSR csr = g.getCSR();
+        int n = csr.getNbSommets();
+        long[] dist = new long[n];
+        int[] parent = new int[n];
+        search(csr, source, -1, dist, parent, queue);
+        return new ShortestPathTree(source, dist, parent);
+    }
+
+    /**
+     * Calcule la distance et le plus court chemin entre deux sommets, avec arrêt
+     * dès que la destination est atteinte.
+     *
+     * @param g graphe à poids positifs
+     * @param start sommet source
+     * @param end sommet destination
+     * @param path liste remplie avec les sommets du chemin (peut être null)
+     * @return distance minimale, ou {@link Dijkstra#INFINI} si end n’est pas atteignable
+     */
+    public static long shortestPath(Graphe g, int start, int end, List<Integer> path) {
+        AdjacenceCSR csr = g.getCSR();
+        int n = csr.getNbSommets();
+        long[] dist = new long[n];
+        int[] parent = new int[n];
+        search(csr, start, end, dist, parent, select(csr));
+
+        if (path != null) {
+            path.clear();
+            if (dist[end] != Dijkstra.INFINI) {
+                for (int v = end; v != -1; v = parent[v]) path.add(v);
+                Collections.reverse(path);
+            }
+        }
+        return dist[end];
+    }
+
+    /**
+     * Recherche depuis {@code start}, avec la file demandée.
+     *
+     * @param csr arcs du graphe (poids strictement positifs)
+     * @param start sommet source
+     * @param target sommet où s’arrêter, ou -1 pour calculer toutes les distances
+     * @param dist tableau des distances (taille n), rempli par la méthode
+     * @param parent tableau des prédécesseurs (taille n), rempli par la méthode
+     * @param queue file de priorité à utiliser ({@link Queue#DIAL} est remplacé par le
+     *              tas radix si le poids maximal dépasse {@link #DIAL_MAX_WEIGHT})
+     */
+    static void search(AdjacenceCSR csr, int start, int target, long[] dist, int[] parent, Queue queue) {
+        if (csr.minWeight() < 0)
+            throw new IllegalArgumentException("Dijkstra à seaux exige des poids positifs");
+        Arrays.fill(dist, Dijkstra.INFINI);
+        Arrays.fill(parent, -1);
+        dist[start] = 0;
+        // Au-delà de la limite, les seaux de Dial occuperaient maxWeight entiers (et maxWeight + 1 déborderait)
+        if (queue == Queue.DIAL && csr.maxWeight() <= DIAL_MAX_WEIGHT) dial(csr, start, target, dist, parent);
+        else radix(csr, start, target, dist, parent);
+    }
+
+    /** Dijkstra avec C + 1 seaux circulaires (listes doublement chaînées dans des tableaux). */
+    private static void dial(AdjacenceCSR csr, int start, int target, long[] dist, int[] parent) {
+        int n = csr.getNbSommets();
+        int nbBuckets = Math.max(1, csr.maxWeight()) + 1;
+        int[] head = new int[nbBuckets];
+        int[] next = new int[n];
+        int[] prev = new int[n];
+        boolean[] queued = new boolean[n];
+        Arrays.fill(head, -1);
+
+        insert(start, 0, head, next, prev, queued);
+        int count = 1;
+        long current = 0;
+
+        while (count > 0) {
+            int b = (int) (current % nbBuckets);
+            while (head[b] == -1) {
+                current++;
+                b = (int) (current % nbBuckets);
+            }
+            int u = head[b];
+            remove(u, b, head, next, prev, queued);
+            count--;
+            if (u == target) return;
+
+            long du = dist[u];
+            for (int e = csr.firstArc(u); e < csr.endArc(u); e++) {
+                int v = csr.arcTarget(e);
+                long nd = du + csr.arcWeight(e);
+                if (nd < dist[v]) {
+                    if (queued[v]) remove(v, (int) (dist[v] % nbBuckets), head, next, prev, queued);
+                    else count++;
+                    dist[v] = nd;
+                    parent[v] = u;
+                    insert(v, (int) (nd % nbBuckets), head, next, prev, queued);
+                }
+            }
+        }
+    }
+
+    private static void insert(int v, int b, int[] head, int[] next, int[] prev, boolean[] queued) {
+        next[v] = head[b];
+        prev[v] = -1;
+        if (head[b] != -1) prev[head[b]] = v;
+        head[b] = v;
+        queued[v] = true;
+    }
+
+    private static void remove(int v, int b, int[] head, int[] next, int[] prev, boolean[] queued) {
+        if (prev[v] != -1) next[prev[v]] = next[v];
+        else head[b] = next[v];
+        if (next[v] != -1) prev[next[v]] = prev[v];
+        queued[v] = false;
+    }
+
+    /** Dijkstra avec tas radix et entrées périmées ignorées à l’extraction. */
+    private static void radix(AdjacenceCSR csr, int start, int target, long[] dist, int[] parent) {
+        RadixHeap heap = new RadixHeap();
+        heap.push(start, 0);
+
+        while (!heap.isEmpty()) {
+            heap.poll();
+            int u = heap.polledVertex();
+            long du = heap.polledKey();
+            if (du > dist[u]) continue; // entrée périmée
+            if (u == target) return;
+
+            for (int e = csr.firstArc(u); e < csr.endArc(u); e++) {
+                int v = csr.arcTarget(e);
+                long nd = du + csr.arcWeight(e);
+                if (nd < dist[v]) {
+                    dist[v] = nd;
+                    parent[v] = u;
+                    heap.push(v, nd);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package Modele;
+
+import java.util.*;
+
+/**
+ * Algorithme de Johnson : plus courts chemins entre toutes les paires de sommets
+ * pour des graphes peu denses, poids négatifs acceptés.
+ *
+ * Étapes :
+ * 1. Potentiels : une source virtuelle reliée à tous les sommets par des arcs de
+ *    poids nul ; h(v) = distance de cette source à v, calculée par {@link SPFA}.
+ *    Un cycle absorbant est détecté à cette étape.
+ * 2. Repondération : w'(u, v) = w(u, v) + h(u) − h(v) ≥ 0 pour tout arc. Les plus
+ *    courts chemins sont inchangés, seules leurs longueurs sont décalées.
+ * 3. Un Dijkstra par source sur les poids w', exécutés en parallèle ; la vraie
+ *    distance est d(s, v) = d'(s, v) − h(s) + h(v).
+ *
+ * Coût : O(n·m + n·m·log n), contre O(n³) pour {@link FloydWarshall} : l’algorithme
+ * est préférable dès que m ≪ n² (voir {@link AllPairsShortestPaths}).
+ */
+public class Johnson {
+
+    /** Nombre de sources traitées par une même tâche parallèle. */
+    private static final int GRAIN = 4;
+
+    /** Sommets du cycle absorbant trouvé lors du dernier calcul (vide s’il n’y en a pas). */
+    private final List<Integer> negativeCycle = new ArrayList<>();
+
+    /** Constructeur par défaut. */
+    public Johnson() {}
+
+    /** @return true si le dernier calcul a rencontré un cycle absorbant */
+    public boolean hasNegativeCycle() {
+        return !negativeCycle.isEmpty();
+    }
+
+    /** @return sommets du cycle absorbant trouvé, dans le sens des arcs (liste vide s’il n’y en a pas) */
+    public List<Integer> getNegativeCycle() {
+        return new ArrayList<>(negativeCycle);
+    }
+
+    /**
+     * Calcule les plus courts chemins entre toutes les paires de sommets.
+     *
+     * @param g graphe à traiter
+     * @return distances et prédécesseurs, ou null si le graphe contient un cycle
+     *         absorbant (voir {@link #getNegativeCycle()})
+     * @throws IllegalArgumentException si n² dépasse la taille d’un tableau
+     */
+    public AllPairsResult compute(Graphe g) {
+        AdjacenceCSR csr = g.getCSR();
+        int n = csr.getNbSommets();
+        int cells = AllPairsResult.cells(n);
+        negativeCycle.clear();
+
+        // 1) Potentiels depuis la source virtuelle (tous les sommets à distance 0)
+        long[] h = new long[n];
+        int[] parent = new int[n];
+        int[] all = new int[n];
+        for (int v = 0; v < n; v++) all[v] = v;
+        int onCycle = SPFA.search(csr, all, h, parent);
+        if (onCycle != -1) {
+            negativeCycle.addAll(SPFA.cycleThrough(parent, onCycle));
+            return null;
+        }
+
+        // 2 et 3) Dijkstra repondéré depuis chaque source, en parallèle
+        long[] dist = new long[cells];
+        int[] pred = new int[cells];
+        ParallelFor.range(0, n, GRAIN, (from, to) -> {
+            long[] d = new long[n];
+            int[] p = new int[n];
+            IndexedMinHeap heap = new IndexedMinHeap(n);
+            for (int s = from; s < to; s++) {
+                reweightedSearch(csr, h, s, d, p, heap);
+                int row = s * n;
+                for (int v = 0; v < n; v++) {
+                    dist[row + v] = d[v] == Dijkstra.INFINI ? Dijkstra.INFINI : d[v] - h[s] + h[v];
+                    pred[row + v] = p[v];
+                }
+            }
+        });
+        return new AllPairsResult(n, dist, pred);
+    }
+
+    /**
+     * Dijkstra sur les poids repondérés w(u, v) + h(u) − h(v), calculés à la volée.
+     *
+     * @param csr arcs du graphe
+     * @param h potentiels (aucun arc repondéré n’est négatif)
+     * @param start sommet source
+     * @param dist distances repondérées, remplies par la méthode
+     * @param parent prédécesseurs, remplis par la méthode
+     * @param heap tas réutilisé (vide en entrée et en sortie)
+     */
+    private static void reweightedSearch(AdjacenceCSR csr, long[] h, int start, long[] dist, int[] parent,
+                                         IndexedMinHeap heap) {
+        Arrays.fill(dist, Dijkstra.INFINI);
+        Arrays.fill(parent, -1);
+        dist[start] = 0;
+        heap.insertOrDecrease(start, 0);
+
+        while (!heap.isEmpty()) {
+            int u = heap.poll();
+            long du = dist[u];
+            long hu = h[u];
+            for (int e = csr.firstArc(u); e < csr.endArc(u); e++) {
+                int v = csr.arcTarget(e);
+                long nd = du + csr.arcWeight(e) + hu - h[v];
+                if (nd < dist[v]) {
+                    dist[v] = nd;
+                    parent[v] = u;
+                    heap.insertOrDecrease(v, nd);
+                }
+            }
+        }
+    }
+}
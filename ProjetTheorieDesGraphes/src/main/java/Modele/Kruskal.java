@@ -14,6 +14,10 @@ import java.util.*;
  * - le coût total de l’arbre couvrant minimal,
  * - et une liste ordonnée {@code finalPath} pour la visualisation graphique.
  *
+ * Les arêtes sont stockées dans des tableaux parallèles et triées par base
+ * ({@link EdgeList}), sans objet par arête. {@link #compute(Graphe)} donne le même
+ * arbre sans le texte, sous forme de {@link SpanningTree}.
+ *
  */
 public class Kruskal {
 
@@ -37,32 +41,26 @@ public class Kruskal {
      */
     public String getResult(Graphe g) {
         StringBuilder sb = new StringBuilder();
-        int[][] mat = g.getMatrix();
-        int n = mat.length;
-        List<int[]> edges = new ArrayList<>();
-
-        // --- Étape 1 : construction de la liste des arêtes ---
-        for (int i = 0; i < n; i++) {
-            for (int j = i + 1; j < n; j++) {
-                if (mat[i][j] != 0) {
-                    edges.add(new int[]{i, j, mat[i][j]});
-                }
-            }
-        }
+        AdjacenceCSR csr = g.getCSR();
+        int n = csr.getNbSommets();
+
+        // --- Étape 1 : construction des tableaux d’arêtes ---
+        EdgeList edges = EdgeList.of(csr);
 
         // --- Étape 2 : tri des arêtes par poids croissant ---
-        edges.sort(Comparator.comparingInt(e -> e[2]));
+        int[] order = edges.sortedOrder();
         UnionFind uf = new UnionFind(n);
-        List<int[]> mst = new ArrayList<>();
+        int[] mst = new int[Math.max(0, n - 1)];
+        int nbMst = 0;
         int totalCost = 0;
 
         sb.append("\nÉtape 1 : Arêtes triées par poids croissant\n");
-        for (int[] e : edges) {
-            int u = e[0], v = e[1], w = e[2];
+        for (int k : order) {
+            int u = edges.from[k], v = edges.to[k], w = edges.weight[k];
             boolean added = uf.union(u, v);
 
             if (added) {
-                mst.add(e);
+                mst[nbMst++] = k;
                 totalCost += w;
                 sb.append(String.format("%s — %s : %d (ajoutée)\n",
                         g.getVertexName(u), g.getVertexName(v), w));
@@ -74,9 +72,10 @@ public class Kruskal {
 
         // --- Étape 3 : affichage de l’arbre couvrant minimal ---
         sb.append("\nÉtape 2 : Arbre couvrant minimal (résultat final)\n");
-        for (int[] e : mst) {
+        for (int i = 0; i < nbMst; i++) {
+            int k = mst[i];
             sb.append(String.format("%s — %s : %d\n",
-                    g.getVertexName(e[0]), g.getVertexName(e[1]), e[2]));
+                    g.getVertexName(edges.from[k]), g.getVertexName(edges.to[k]), edges.weight[k]));
         }
 
         sb.append("Coût total de l'arbre couvrant = ").append(totalCost).append("\n");
@@ -84,11 +83,12 @@ public class Kruskal {
         // --- Étape 4 : construction du chemin pour la visualisation ---
         finalPath.clear();
 
-        if (!mst.isEmpty()) {
+        if (nbMst > 0) {
             Map<Integer, List<Integer>> tree = new HashMap<>();
-            for (int[] e : mst) {
-                tree.computeIfAbsent(e[0], k -> new ArrayList<>()).add(e[1]);
-                tree.computeIfAbsent(e[1], k -> new ArrayList<>()).add(e[0]);
+            for (int i = 0; i < nbMst; i++) {
+                int u = edges.from[mst[i]], v = edges.to[mst[i]];
+                tree.computeIfAbsent(u, k -> new ArrayList<>()).add(v);
+                tree.computeIfAbsent(v, k -> new ArrayList<>()).add(u);
             }
 
             boolean[] visited = new boolean[n];
@@ -98,6 +98,33 @@ public class Kruskal {
         return sb.toString();
     }
 
+    /**
+     * Calcule l’arbre (ou la forêt) couvrant minimal sans produire de texte.
+     *
+     * Les arêtes sont lues dans des tableaux primitifs ({@link EdgeList}), triées par
+     * base (ou par {@link Arrays#parallelSort(long[])} pour un grand nombre d’arêtes),
+     * puis parcourues avec {@link UnionFind} : aucun objet n’est créé par arête.
+     *
+     * @param g graphe pondéré non orienté
+     * @return arêtes retenues et coût total
+     */
+    public static SpanningTree compute(Graphe g) {
+        AdjacenceCSR csr = g.getCSR();
+        int n = csr.getNbSommets();
+        EdgeList edges = EdgeList.of(csr);
+        UnionFind uf = new UnionFind(n);
+        int[] from = new int[Math.max(0, n - 1)], to = new int[from.length], weight = new int[from.length];
+        int count = 0;
+        for (int k : edges.sortedOrder()) {
+            if (!uf.union(edges.from[k], edges.to[k])) continue;
+            from[count] = edges.from[k];
+            to[count] = edges.to[k];
+            weight[count] = edges.weight[k];
+            if (++count == from.length) break; // arbre complet
+        }
+        return new SpanningTree(n, Arrays.copyOf(from, count), Arrays.copyOf(to, count), Arrays.copyOf(weight, count));
+    }
+
     /**
      * Parcours récursif de l’arbre couvrant pour générer un chemin complet.
      * Ajoute également les retours arrière pour la visualisation séquentielle.
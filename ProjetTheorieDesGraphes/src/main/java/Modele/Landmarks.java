@@ -0,0 +1,220 @@
+package Modele;
+
+import java.util.*;
+
+/**
+ * Heuristique ALT (A*, Landmarks, inégalité Triangulaire) pour l’algorithme {@link AStar}.
+ *
+ * Un petit nombre k de sommets repères (landmarks) est choisi, puis on calcule une fois
+ * pour toutes les distances de chaque repère L vers tous les sommets, et de tous les
+ * sommets vers L. Par l’inégalité triangulaire, pour tout couple (v, t) :
+ *
+ *   d(v, t) ≥ d(L, t) − d(L, v)   et   d(v, t) ≥ d(v, L) − d(t, L)
+ *
+ * Le maximum de ces bornes sur les k repères donne une heuristique admissible et
+ * cohérente, sans avoir besoin de coordonnées géographiques : elle fonctionne pour
+ * tout graphe à poids positifs, y compris ceux chargés par
+ * {@code FileHelper.loadGraphFromMatrix}.
+ *
+ * Les distances sont stockées dans deux tableaux d’entiers ordonnés par sommet
+ * ({@code v * k + i}) pour que l’évaluation de h(v) lise des cases contiguës.
+ *
+ * Deux stratégies de choix des repères sont proposées (voir {@link Selection}).
+ */
+public class Landmarks implements Heuristic {
+
+    /** Stratégie de sélection des repères. */
+    public enum Selection {
+        /** Chaque nouveau repère est le sommet le plus éloigné des repères déjà choisis. */
+        FARTHEST,
+
+        /**
+         * Méthode « avoid » : on construit un arbre de plus courts chemins depuis une racine,
+         * puis on choisit une feuille de la branche où les bornes actuelles sont les moins précises.
+         */
+        AVOID
+    }
+
+    /** Valeur stockée pour un sommet non atteignable. */
+    private static final int UNREACHABLE = Integer.MAX_VALUE;
+
+    /** Nombre de sommets. */
+    private final int n;
+
+    /** Nombre de repères effectivement choisis. */
+    private final int k;
+
+    /** Indices des repères. */
+    private final int[] landmarks;
+
+    /** fromLandmark[v * k + i] = d(L_i, v). */
+    private final int[] fromLandmark;
+
+    /** toLandmark[v * k + i] = d(v, L_i). */
+    private final int[] toLandmark;
+
+    /**
+     * Choisit les repères et calcule leurs distances (2 Dijkstra complets par repère).
+     *
+     * @param g graphe à poids positifs
+     * @param count nombre de repères souhaité (borné par le nombre de sommets)
+     * @param selection stratégie de sélection
+     */
+    public Landmarks(Graphe g, int count, Selection selection) {
+        if (GraphManager.hasNegativeWeight(g))
+            throw new IllegalArgumentException("Les repères ALT exigent des poids positifs");
+
+        AdjacenceCSR fwd = g.getCSR();
+        AdjacenceCSR bwd = g.getReverseCSR();
+        this.n = fwd.getNbSommets();
+        this.k = Math.max(1, Math.min(count, n));
+        this.landmarks = new int[k];
+        this.fromLandmark = new int[n * k];
+        this.toLandmark = new int[n * k];
+
+        long[] dist = new long[n];
+        int[] parent = new int[n];
+        Random rnd = new Random(42);
+
+        // Pour FARTHEST : distance (aller + retour) de chaque sommet au repère le plus proche
+        long[] closest = new long[n];
+        Arrays.fill(closest, Dijkstra.INFINI);
+
+        for (int i = 0; i < k; i++) {
+            int l = (selection == Selection.AVOID)
+                    ? selectAvoid(fwd, i, rnd.nextInt(n), dist, parent)
+                    : selectFarthest(fwd, i, closest);
+            landmarks[i] = l;
+
+            Dijkstra.search(fwd, l, -1, dist, parent);
+            store(fromLandmark, i, dist);
+            Dijkstra.search(bwd, l, -1, dist, parent);
+            store(toLandmark, i, dist);
+
+            for (int v = 0; v < n; v++) {
+                long round = saturatedSum(fromLandmark[v * k + i], toLandmark[v * k + i]);
+                closest[v] = Math.min(closest[v], round);
+            }
+        }
+    }
+
+    /** @return indices des repères choisis */
+    public int[] getLandmarks() {
+        return landmarks.clone();
+    }
+
+    @Override
+    public long lowerBound(int v, int target) {
+        return lowerBound(v, target, k);
+    }
+
+    /** Borne ALT calculée avec les {@code count} premiers repères seulement. */
+    private long lowerBound(int v, int target, int count) {
+        long best = 0;
+        int bv = v * k, bt = target * k;
+        for (int i = 0; i < count; i++) {
+            int fromV = fromLandmark[bv + i], fromT = fromLandmark[bt + i];
+            if (fromV != UNREACHABLE && fromT != UNREACHABLE) {
+                best = Math.max(best, (long) fromT - fromV);
+            }
+            int toV = toLandmark[bv + i], toT = toLandmark[bt + i];
+            if (toV != UNREACHABLE && toT != UNREACHABLE) {
+                best = Math.max(best, (long) toV - toT);
+            }
+        }
+        return best;
+    }
+
+    /** Recopie des distances dans la colonne i d’un tableau ordonné par sommet. */
+    private void store(int[] table, int i, long[] dist) {
+        for (int v = 0; v < n; v++) {
+            table[v * k + i] = dist[v] == Dijkstra.INFINI ? UNREACHABLE : (int) Math.min(dist[v], UNREACHABLE - 1);
+        }
+    }
+
+    /** Somme de deux distances stockées, infinie si l’une est inaccessible. */
+    private static long saturatedSum(int a, int b) {
+        return (a == UNREACHABLE || b == UNREACHABLE) ? Dijkstra.INFINI : (long) a + b;
+    }
+
+    /**
+     * Stratégie FARTHEST : le premier repère est le sommet le plus éloigné du sommet 0,
+     * les suivants maximisent la distance au repère le plus proche. Les sommets non
+     * atteignables sont choisis en priorité (composantes non encore couvertes).
+     */
+    private int selectFarthest(AdjacenceCSR fwd, int i, long[] closest) {
+        long[] score = closest;
+        if (i == 0) {
+            long[] dist = new long[n];
+            Dijkstra.search(fwd, 0, -1, dist, new int[n]);
+            score = dist;
+        }
+        int best = -1;
+        for (int v = 0; v < n; v++) {
+            if (!isLandmark(v, i) && (best == -1 || score[v] > score[best])) best = v;
+        }
+        return best;
+    }
+
+    /**
+     * Stratégie AVOID : arbre de plus courts chemins depuis une racine, poids d’un sommet
+     * = écart entre sa vraie distance et la borne ALT actuelle, taille d’un sous-arbre
+     * = somme de ces écarts (nulle s’il contient déjà un repère). On descend depuis le
+     * sommet de plus grande taille vers l’enfant le plus lourd jusqu’à une feuille.
+     */
+    private int selectAvoid(AdjacenceCSR fwd, int i, int root, long[] dist, int[] parent) {
+        Dijkstra.search(fwd, root, -1, dist, parent);
+
+        // Sommets atteints, triés par distance décroissante (les enfants avant leur parent)
+        int reached = 0;
+        for (int v = 0; v < n; v++) if (dist[v] != Dijkstra.INFINI) reached++;
+        Integer[] byDist = new Integer[reached];
+        int idx = 0;
+        for (int v = 0; v < n; v++) if (dist[v] != Dijkstra.INFINI) byDist[idx++] = v;
+        Arrays.sort(byDist, (a, b) -> Long.compare(dist[b], dist[a]));
+
+        long[] size = new long[n];
+        boolean[] hasLandmark = new boolean[n];
+        for (int j = 0; j < i; j++) hasLandmark[landmarks[j]] = true;
+
+        for (int v : byDist) {
+            if (hasLandmark[v]) size[v] = 0;
+            else size[v] += dist[v] - lowerBound(root, v, i);
+            int p = parent[v];
+            if (p != -1) {
+                if (hasLandmark[v]) hasLandmark[p] = true;
+                if (!hasLandmark[p]) size[p] += size[v];
+            }
+        }
+        // Un sous-arbre contenant un repère ne doit rien peser
+        for (int v : byDist) if (hasLandmark[v]) size[v] = 0;
+
+        int best = root;
+        for (int v : byDist) if (size[v] > size[best]) best = v;
+        if (size[best] == 0) return firstFreeVertex(i);
+
+        // Descente vers l’enfant de plus grande taille jusqu’à une feuille
+        int[] heaviestChild = new int[n];
+        Arrays.fill(heaviestChild, -1);
+        for (int v : byDist) {
+            int p = parent[v];
+            if (p != -1 && size[v] > 0 && (heaviestChild[p] == -1 || size[v] > size[heaviestChild[p]])) {
+                heaviestChild[p] = v;
+            }
+        }
+        while (heaviestChild[best] != -1) best = heaviestChild[best];
+        return best;
+    }
+
+    /** Repli lorsque tout l’arbre est déjà couvert : premier sommet qui n’est pas un repère. */
+    private int firstFreeVertex(int i) {
+        for (int v = 0; v < n; v++) if (!isLandmark(v, i)) return v;
+        return 0;
+    }
+
+    /** @return true si v fait partie des {@code count} premiers repères */
+    private boolean isLandmark(int v, int count) {
+        for (int j = 0; j < count; j++) if (landmarks[j] == v) return true;
+        return false;
+    }
+}
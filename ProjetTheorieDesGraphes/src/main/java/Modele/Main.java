@@ -42,6 +42,9 @@ public class Main {
         System.out.println("5 - Prim (Arbre couvrant minimal)");
         System.out.println("6 - Bellman-Ford (Plus court chemin)");
         System.out.println("7 - Floyd-Warshall (Tous les plus courts chemins)");
+        System.out.println("8 - Dijkstra bidirectionnel (Plus court chemin)");
+        System.out.println("9 - A* (Plus court chemin guidé par la distance à vol d'oiseau)");
+        System.out.println("10 - Bellman-Ford à base de file, SPFA (Plus court chemin)");
         System.out.print("\nVotre choix : ");
 
         Scanner sc = new Scanner(System.in);
@@ -57,6 +60,9 @@ public class Main {
             case 5 -> runPrim(g, sc);
             case 6 -> runBellmanFord(g, sc);
             case 7 -> runFloydWarshall(g, sc);
+            case 8 -> runBidirectionalDijkstra(g, sc);
+            case 9 -> runAStar(g, sc);
+            case 10 -> runSPFA(g, sc);
             default -> System.out.println("Choix invalide !");
         }
 
@@ -90,10 +96,40 @@ public class Main {
         int end = askVertex(g, sc, "Nom ou indice du sommet d'arrivée : ");
         if (end == -1) return;
 
+        if (GraphManager.hasNegativeWeight(g)) {
+            System.out.println("Dijkstra n'est pas disponible pour un graphe avec poids négatif.");
+            return;
+        }
+
         Dijkstra dij = new Dijkstra();
         System.out.println("\n" + dij.getResult(g, start, end));
     }
 
+    /** Exécute Dijkstra bidirectionnel pour trouver le plus court chemin entre deux villes. */
+    private static void runBidirectionalDijkstra(Graphe g, Scanner sc) {
+        int start = askVertex(g, sc, "Nom ou indice du sommet de départ : ");
+        if (start == -1) return;
+        int end = askVertex(g, sc, "Nom ou indice du sommet d'arrivée : ");
+        if (end == -1) return;
+
+        System.out.println("\n" + BidirectionalDijkstra.getResult(g, start, end));
+    }
+
+    /** Exécute A* pour trouver le plus court chemin entre deux villes. */
+    private static void runAStar(Graphe g, Scanner sc) {
+        int start = askVertex(g, sc, "Nom ou indice du sommet de départ : ");
+        if (start == -1) return;
+        int end = askVertex(g, sc, "Nom ou indice du sommet d'arrivée : ");
+        if (end == -1) return;
+
+        if (GraphManager.hasNegativeWeight(g)) {
+            System.out.println("A* n'est pas disponible pour un graphe avec poids négatif.");
+            return;
+        }
+
+        System.out.println("\n" + AStar.getResult(g, start, end));
+    }
+
     /** Exécute l’algorithme de Kruskal pour générer l’arbre couvrant minimal (MST). */
     private static void runKruskal(Graphe g) {
         Kruskal k = new Kruskal();
@@ -119,6 +155,17 @@ public class Main {
         System.out.println("\n" + bf.getResult(g, start, end));
     }
 
+    /** Exécute la variante SPFA de Bellman-Ford pour calculer le plus court chemin entre deux sommets. */
+    private static void runSPFA(Graphe g, Scanner sc) {
+        int start = askVertex(g, sc, "Nom ou indice du sommet de départ : ");
+        if (start == -1) return;
+        int end = askVertex(g, sc, "Nom ou indice du sommet d'arrivée : ");
+        if (end == -1) return;
+
+        SPFA spfa = new SPFA();
+        System.out.println("\n" + spfa.getResult(g, start, end));
+    }
+
     /** Exécute l’algorithme de Floyd-Warshall pour calculer tous les plus courts chemins. */
     private static void runFloydWarshall(Graphe g, Scanner sc) {
         int start = askVertex(g, sc, "Nom ou indice du sommet de départ : ");
@@ -0,0 +1,58 @@
+package Modele;
+
+/**
+ * Boucle interne de Floyd-Warshall (produit min-plus d’une ligne) :
+ * {@code dist[i][j] ← min(dist[i][j], dist[i][k] + dist[k][j])}, avec mise à jour
+ * du prédécesseur {@code pred[i][j] ← pred[k][j]}.
+ *
+ * Deux implémentations :
+ * - vectorisée ({@link VectorMinPlus}), si le module {@code jdk.incubator.vector}
+ *   a été chargé au démarrage et que le processeur offre au moins deux voies 64 bits ;
+ * - scalaire sinon (repli toujours disponible).
+ *
+ * La version vectorisée peut être désactivée avec la propriété système
+ * {@code -Dgraphes.vector=false}.
+ */
+final class MinPlusKernel {
+
+    /** Indique si la version vectorisée peut être utilisée. */
+    static final boolean VECTOR_AVAILABLE = detectVector();
+
+    private MinPlusKernel() {
+    }
+
+    /**
+     * Relâche la ligne i sur les colonnes [j0, j1[ via le sommet intermédiaire k.
+     *
+     * @param vector true pour utiliser la version vectorisée (si disponible)
+     */
+    static void relaxRow(long[] dist, int[] pred, int rowI, int rowK, int j0, int j1, long dik, boolean vector) {
+        if (vector && VECTOR_AVAILABLE) VectorMinPlus.relaxRow(dist, pred, rowI, rowK, j0, j1, dik);
+        else relaxRowScalar(dist, pred, rowI, rowK, j0, j1, dik);
+    }
+
+    /** Version scalaire de {@link #relaxRow}, utilisée aussi pour la fin de ligne vectorisée. */
+    static void relaxRowScalar(long[] dist, int[] pred, int rowI, int rowK, int j0, int j1, long dik) {
+        for (int j = j0; j < j1; j++) {
+            long nd = dik + dist[rowK + j];
+            if (nd < dist[rowI + j]) {
+                dist[rowI + j] = nd;
+                pred[rowI + j] = pred[rowK + j];
+            }
+        }
+    }
+
+    /**
+     * Le module incubateur n’est résolu que s’il est demandé au lancement : on vérifie
+     * sa présence avant de charger {@link VectorMinPlus}, qui en dépend.
+     */
+    private static boolean detectVector() {
+        if (!Boolean.parseBoolean(System.getProperty("graphes.vector", "true"))) return false;
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) return false;
+        try {
+            return VectorMinPlus.isSupported();
+        } catch (LinkageError e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package Modele;
+
+import java.util.*;
+
+/**
+ * Résultat d’un Dijkstra multi-sources ({@link Dijkstra#nearestSources(Graphe, int...)}).
+ *
+ * Pour chaque sommet v, l’objet donne la source la plus proche, la distance
+ * à cette source et le chemin qui les relie. Les sommets qui partagent la même
+ * source forment sa zone de desserte.
+ *
+ * Exemple :
+ *
+ * NearestSources zones = Dijkstra.nearestSources(g, entrepot1, entrepot2);
+ * int depot = zones.nearestSource(client);
+ * long d = zones.distance(client);
+ */
+public final class NearestSources {
+
+    /** dist[v] = distance de v à sa source la plus proche ({@link Dijkstra#INFINI} si aucune). */
+    private final long[] dist;
+
+    /** parent[v] = prédécesseur de v sur le chemin depuis sa source (-1 pour une source). */
+    private final int[] parent;
+
+    /** origin[v] = source la plus proche de v (-1 si aucune source n’atteint v). */
+    private final int[] origin;
+
+    /**
+     * Constructeur interne : les tableaux appartiennent ensuite au résultat.
+     *
+     * @param dist distances minimales
+     * @param parent prédécesseurs
+     * @param origin source la plus proche de chaque sommet
+     */
+    NearestSources(long[] dist, int[] parent, int[] origin) {
+        this.dist = dist;
+        this.parent = parent;
+        this.origin = origin;
+    }
+
+    /** @return nombre de sommets du graphe */
+    public int getNbSommets() {
+        return dist.length;
+    }
+
+    /**
+     * @param v sommet
+     * @return source la plus proche de v, ou -1 si aucune source n’atteint v
+     */
+    public int nearestSource(int v) {
+        return origin[v];
+    }
+
+    /**
+     * @param v sommet
+     * @return distance de v à sa source la plus proche, ou {@link Dijkstra#INFINI}
+     */
+    public long distance(int v) {
+        return dist[v];
+    }
+
+    /**
+     * Reconstruit le chemin de la source la plus proche vers v.
+     *
+     * @param v sommet destination
+     * @return liste des sommets du chemin (vide si v n’est atteint par aucune source)
+     */
+    public List<Integer> path(int v) {
+        List<Integer> path = new ArrayList<>();
+        if (origin[v] == -1) return path;
+        for (int x = v; x != -1; x = parent[x]) path.add(x);
+        Collections.reverse(path);
+        return path;
+    }
+
+    /**
+     * @param source une des sources
+     * @return sommets affectés à cette source, par indice croissant
+     */
+    public List<Integer> area(int source) {
+        List<Integer> area = new ArrayList<>();
+        for (int v = 0; v < origin.length; v++) if (origin[v] == source) area.add(v);
+        return area;
+    }
+
+    /** @return copie du tableau des sources les plus proches */
+    public int[] getNearestSources() {
+        return origin.clone();
+    }
+
+    /** @return copie du tableau des distances */
+    public long[] getDistances() {
+        return dist.clone();
+    }
+}
@@ -0,0 +1,191 @@
+package Modele;
+
+import java.util.*;
+
+/**
+ * Cycle absorbant (circuit de poids total négatif) : liste de ses sommets et poids total.
+ *
+ * La recherche ({@link #find(Graphe)}, {@link #find(Graphe, int)}) est un Bellman-Ford
+ * à base de file muni de l’heuristique de démontage de sous-arbres de Tarjan :
+ * l’arbre des prédécesseurs est maintenu sous forme d’un fil (parcours préfixe
+ * doublement chaîné) avec la profondeur de chaque sommet. Quand la distance de v
+ * diminue grâce à l’arc u → v, tout le sous-arbre de v est détaché de l’arbre :
+ * - si u appartient à ce sous-arbre, le chemin v → … → u suivi de l’arc u → v est
+ *   un cycle absorbant, détecté immédiatement, sans passe supplémentaire ;
+ * - sinon, les sommets détachés ne sont plus explorés tant que leur distance
+ *   n’a pas été améliorée à nouveau, ce qui évite des relâchements inutiles.
+ *
+ * Exemple (recherche d’arbitrage) :
+ *
+ * NegativeCycle cycle = NegativeCycle.find(g);
+ * if (cycle != null) System.out.println(cycle.describe(g));
+ */
+public final class NegativeCycle {
+
+    /** Sommets du cycle, dans le sens des arcs (le dernier est relié au premier). */
+    private final List<Integer> vertices;
+
+    /** Somme des poids des arcs du cycle (strictement négative). */
+    private final long totalWeight;
+
+    /**
+     * Construit le cycle et calcule son poids à partir des arcs du graphe.
+     *
+     * @param csr arcs du graphe
+     * @param vertices sommets du cycle, dans le sens des arcs
+     */
+    NegativeCycle(AdjacenceCSR csr, List<Integer> vertices) {
+        this.vertices = List.copyOf(vertices);
+        long total = 0;
+        for (int i = 0; i < vertices.size(); i++) {
+            total += csr.weight(vertices.get(i), vertices.get((i + 1) % vertices.size()));
+        }
+        this.totalWeight = total;
+    }
+
+    /** @return sommets du cycle dans le sens des arcs (liste non modifiable) */
+    public List<Integer> getVertices() {
+        return vertices;
+    }
+
+    /** @return poids total du cycle (strictement négatif) */
+    public long getTotalWeight() {
+        return totalWeight;
+    }
+
+    /**
+     * @param g graphe utilisé pour obtenir les noms
+     * @return texte du type "A → B → C → A (poids total = -3)"
+     */
+    public String describe(Graphe g) {
+        List<String> names = new ArrayList<>();
+        for (int v : vertices) names.add(g.getVertexName(v));
+        names.add(g.getVertexName(vertices.get(0)));
+        return String.join(" → ", names) + " (poids total = " + totalWeight + ")";
+    }
+
+    /**
+     * Cherche un cycle absorbant n’importe où dans le graphe (tous les sommets
+     * servent de point de départ, comme avec une source virtuelle).
+     *
+     * @param g graphe à analyser
+     * @return un cycle absorbant, ou null si le graphe n’en contient pas
+     */
+    public static NegativeCycle find(Graphe g) {
+        AdjacenceCSR csr = g.getCSR();
+        int n = csr.getNbSommets();
+        int[] all = new int[n];
+        for (int v = 0; v < n; v++) all[v] = v;
+        return search(csr, all);
+    }
+
+    /**
+     * Cherche un cycle absorbant atteignable depuis une source.
+     *
+     * @param g graphe à analyser
+     * @param source sommet de départ
+     * @return un cycle absorbant atteignable depuis source, ou null s’il n’y en a pas
+     */
+    public static NegativeCycle find(Graphe g, int source) {
+        return search(g.getCSR(), new int[]{source});
+    }
+
+    /**
+     * Bellman-Ford à base de file avec démontage de sous-arbres. Une racine
+     * virtuelle (indice n, profondeur 0) est le père de tous les sommets de départ.
+     */
+    private static NegativeCycle search(AdjacenceCSR csr, int[] starts) {
+        int n = csr.getNbSommets();
+        int root = n;
+        long[] dist = new long[n + 1];
+        int[] parent = new int[n + 1];
+        int[] depth = new int[n + 1];
+        int[] next = new int[n + 1], prev = new int[n + 1];
+        boolean[] inTree = new boolean[n + 1];
+        boolean[] inQueue = new boolean[n];
+        Arrays.fill(dist, Dijkstra.INFINI);
+        Arrays.fill(parent, -1);
+
+        // Fil circulaire réduit à la racine virtuelle
+        next[root] = root;
+        prev[root] = root;
+        inTree[root] = true;
+        dist[root] = 0;
+
+        int[] queue = new int[n + 1];
+        int head = 0, tail = 0;
+        for (int s : starts) {
+            if (inTree[s]) continue;
+            dist[s] = 0;
+            parent[s] = root;
+            depth[s] = 1;
+            inTree[s] = true;
+            link(s, root, next, prev);
+            inQueue[s] = true;
+            queue[tail] = s;
+            tail = (tail + 1) % queue.length;
+        }
+
+        while (head != tail) {
+            int u = queue[head];
+            head = (head + 1) % queue.length;
+            inQueue[u] = false;
+            if (!inTree[u]) continue; // détaché depuis son insertion : rien à propager
+
+            long du = dist[u];
+            for (int e = csr.firstArc(u); e < csr.endArc(u); e++) {
+                int v = csr.arcTarget(e);
+                long nd = du + csr.arcWeight(e);
+                if (nd >= dist[v]) continue;
+
+                if (v == u) return new NegativeCycle(csr, List.of(u)); // boucle de poids négatif
+
+                // Démontage du sous-arbre de v (v exclu) ; u dedans ⇒ cycle absorbant
+                if (inTree[v]) {
+                    int x = next[v];
+                    while (depth[x] > depth[v] && x != root) {
+                        if (x == u) return new NegativeCycle(csr, cycleFromTree(parent, v, u));
+                        inTree[x] = false;
+                        x = next[x];
+                    }
+                    // Retire v et son sous-arbre du fil
+                    next[prev[v]] = x;
+                    prev[x] = prev[v];
+                }
+
+                dist[v] = nd;
+                parent[v] = u;
+                depth[v] = depth[u] + 1;
+                inTree[v] = true;
+                link(v, u, next, prev);
+                if (!inQueue[v]) {
+                    inQueue[v] = true;
+                    queue[tail] = v;
+                    tail = (tail + 1) % queue.length;
+                }
+            }
+        }
+        return null;
+    }
+
+    /** Insère v juste après p dans le fil (v devient le premier enfant de p). */
+    private static void link(int v, int p, int[] next, int[] prev) {
+        next[v] = next[p];
+        prev[next[p]] = v;
+        next[p] = v;
+        prev[v] = p;
+    }
+
+    /**
+     * Cycle formé par le chemin de l’arbre v → … → u et l’arc u → v.
+     *
+     * @return sommets du cycle dans le sens des arcs, en commençant par v
+     */
+    private static List<Integer> cycleFromTree(int[] parent, int v, int u) {
+        List<Integer> cycle = new ArrayList<>();
+        for (int x = u; x != v; x = parent[x]) cycle.add(x);
+        cycle.add(v);
+        Collections.reverse(cycle);
+        return cycle;
+    }
+}
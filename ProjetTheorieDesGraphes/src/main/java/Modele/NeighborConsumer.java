@@ -0,0 +1,20 @@
+package Modele;
+
+/**
+ * Interface fonctionnelle appelée pour chaque voisin d’un sommet
+ * lors d’un parcours des arêtes sortantes.
+ *
+ * Elle évite de créer un objet {@link Voisin} par arête : le voisin
+ * et le poids de l’arête sont transmis directement sous forme d’entiers.
+ */
+@FunctionalInterface
+public interface NeighborConsumer {
+
+    /**
+     * Traite un voisin du sommet courant.
+     *
+     * @param v indice du sommet voisin
+     * @param poids poids de l’arête reliant le sommet courant à ce voisin
+     */
+    void accept(int v, int poids);
+}
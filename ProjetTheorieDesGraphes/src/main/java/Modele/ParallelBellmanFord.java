@@ -0,0 +1,206 @@
+package Modele;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Version parallèle de {@link BellmanFord} pour les graphes à poids négatifs.
+ *
+ * Chaque itération (« round ») relâche des arcs en parallèle sur le
+ * {@link ForkJoinPool} commun ; les distances sont mises à jour par un minimum
+ * atomique ({@link DeltaStepping#atomicMin}). Deux modes sont proposés :
+ * - {@link Mode#ALL_EDGES} : l’ensemble des arcs est découpé en tranches de taille
+ *   équivalente (par plages de sommets sources), une tranche par tâche ;
+ * - {@link Mode#FRONTIER} : seuls les arcs sortants des sommets améliorés au round
+ *   précédent sont relâchés, ce qui évite de repasser sur les zones déjà stables.
+ *
+ * L’algorithme s’arrête dès qu’un round ne modifie plus aucune distance. Si des
+ * distances changent encore au n-ième round, un cycle absorbant est atteignable ;
+ * il est alors extrait par {@link SPFA}, de façon séquentielle.
+ *
+ * Les distances sont identiques à celles de Bellman-Ford ; les prédécesseurs sont
+ * reconstruits à la fin par {@link ShortestPathTree#tightParents}, ce qui rend le
+ * résultat indépendant de l’ordonnancement des threads.
+ */
+public class ParallelBellmanFord {
+
+    /** Ensemble des arcs relâchés à chaque round. */
+    public enum Mode {
+        /** Tous les arcs, répartis en tranches équilibrées. */
+        ALL_EDGES,
+
+        /** Seulement les arcs sortants des sommets améliorés au round précédent. */
+        FRONTIER
+    }
+
+    /** En dessous de cette taille, une frontière est relâchée séquentiellement. */
+    private static final int GRAIN = 256;
+
+    /** Mode de relâchement. */
+    private final Mode mode;
+
+    /** Sommets du cycle absorbant trouvé lors du dernier calcul (vide s’il n’y en a pas). */
+    private final List<Integer> negativeCycle = new ArrayList<>();
+
+    /** Nombre de rounds effectués lors du dernier calcul. */
+    private int rounds;
+
+    /** Crée un moteur en mode {@link Mode#FRONTIER}. */
+    public ParallelBellmanFord() {
+        this(Mode.FRONTIER);
+    }
+
+    /**
+     * @param mode ensemble des arcs relâchés à chaque round
+     */
+    public ParallelBellmanFord(Mode mode) {
+        this.mode = mode;
+    }
+
+    /** @return true si le dernier calcul a rencontré un cycle absorbant */
+    public boolean hasNegativeCycle() {
+        return !negativeCycle.isEmpty();
+    }
+
+    /** @return sommets du cycle absorbant trouvé, dans le sens des arcs (liste vide s’il n’y en a pas) */
+    public List<Integer> getNegativeCycle() {
+        return new ArrayList<>(negativeCycle);
+    }
+
+    /** @return nombre de rounds effectués lors du dernier calcul */
+    public int getRounds() {
+        return rounds;
+    }
+
+    /**
+     * Calcule l’arbre des plus courts chemins depuis une source (poids négatifs acceptés).
+     *
+     * @param g graphe à traiter
+     * @param source sommet source
+     * @return arbre des plus courts chemins, ou null si un cycle absorbant est
+     *         atteignable depuis la source (voir {@link #getNegativeCycle()})
+     */
+    public ShortestPathTree compute(Graphe g, int source) {
+        AdjacenceCSR csr = g.getCSR();
+        int n = csr.getNbSommets();
+        negativeCycle.clear();
+
+        AtomicLongArray dist = new AtomicLongArray(n);
+        for (int v = 0; v < n; v++) dist.set(v, Dijkstra.INFINI);
+        dist.set(source, 0);
+
+        boolean stable = (mode == Mode.ALL_EDGES)
+                ? allEdgesRounds(csr, dist)
+                : frontierRounds(csr, dist, source);
+
+        long[] result = new long[n];
+        for (int v = 0; v < n; v++) result[v] = dist.get(v);
+
+        if (!stable) {
+            // Cas rare : extraction séquentielle du cycle
+            int[] parent = new int[n];
+            int onCycle = SPFA.search(csr, new int[]{source}, new long[n], parent);
+            if (onCycle != -1) negativeCycle.addAll(SPFA.cycleThrough(parent, onCycle));
+            return null;
+        }
+        return new ShortestPathTree(source, result, ShortestPathTree.tightParents(csr, source, result));
+    }
+
+    /**
+     * Rounds sur tous les arcs, découpés en tranches de sommets portant à peu près
+     * le même nombre d’arcs.
+     *
+     * @return true si les distances se sont stabilisées en au plus n - 1 rounds
+     */
+    private boolean allEdgesRounds(AdjacenceCSR csr, AtomicLongArray dist) {
+        int n = csr.getNbSommets();
+        int[] bounds = partition(csr, 4 * ForkJoinPool.getCommonPoolParallelism());
+        int nbChunks = bounds.length - 1;
+
+        rounds = 0;
+        while (rounds < n) {
+            rounds++;
+            AtomicInteger changed = new AtomicInteger();
+            ParallelFor.range(0, nbChunks, 1, (from, to) -> {
+                boolean local = false;
+                for (int c = from; c < to; c++) {
+                    for (int u = bounds[c]; u < bounds[c + 1]; u++) {
+                        long du = dist.get(u);
+                        if (du == Dijkstra.INFINI) continue;
+                        for (int e = csr.firstArc(u); e < csr.endArc(u); e++) {
+                            if (DeltaStepping.atomicMin(dist, csr.arcTarget(e), du + csr.arcWeight(e))) local = true;
+                        }
+                    }
+                }
+                if (local) changed.incrementAndGet();
+            });
+            if (changed.get() == 0) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Rounds limités à la frontière (sommets améliorés au round précédent).
+     *
+     * @return true si la frontière s’est vidée en au plus n rounds
+     */
+    private boolean frontierRounds(AdjacenceCSR csr, AtomicLongArray dist, int source) {
+        int n = csr.getNbSommets();
+        AtomicIntegerArray queued = new AtomicIntegerArray(n);
+        // Deux tampons alloués une fois, échangés à chaque round (un sommet n’est mis qu’une fois dans la frontière)
+        int[] frontier = new int[n], spare = new int[n];
+        frontier[0] = source;
+        int size = 1;
+        AtomicInteger nextSize = new AtomicInteger();
+
+        rounds = 0;
+        while (size > 0) {
+            if (rounds == n) return false;
+            rounds++;
+
+            nextSize.set(0);
+            int[] current = frontier, next = spare;
+            ParallelFor.range(0, size, GRAIN, (from, to) -> {
+                for (int i = from; i < to; i++) {
+                    int u = current[i];
+                    long du = dist.get(u);
+                    for (int e = csr.firstArc(u); e < csr.endArc(u); e++) {
+                        int v = csr.arcTarget(e);
+                        if (DeltaStepping.atomicMin(dist, v, du + csr.arcWeight(e)) && queued.compareAndSet(v, 0, 1)) {
+                            next[nextSize.getAndIncrement()] = v;
+                        }
+                    }
+                }
+            });
+
+            size = nextSize.get();
+            for (int i = 0; i < size; i++) queued.set(next[i], 0);
+            spare = current;
+            frontier = next;
+        }
+        return true;
+    }
+
+    /**
+     * Découpe les sommets en plages contiguës portant chacune environ m / parts arcs.
+     *
+     * @return bornes des plages (bounds[c] .. bounds[c + 1] - 1)
+     */
+    private static int[] partition(AdjacenceCSR csr, int parts) {
+        int n = csr.getNbSommets();
+        long m = csr.getNbArcs();
+        int nbParts = Math.max(1, Math.min(parts, n));
+        int[] bounds = new int[nbParts + 1];
+        int u = 0;
+        for (int c = 1; c < nbParts; c++) {
+            long goal = m * c / nbParts;
+            while (u < n && csr.firstArc(u) < goal) u++;
+            bounds[c] = u;
+        }
+        bounds[nbParts] = n;
+        return bounds;
+    }
+}
@@ -0,0 +1,67 @@
+package Modele;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Boucle parallèle sur une plage d’indices, exécutée sur le {@link ForkJoinPool} commun.
+ *
+ * La plage est découpée récursivement en deux jusqu’à atteindre la taille
+ * {@code grain} ; chaque morceau est alors traité séquentiellement par le corps
+ * de boucle. Une plage plus petite que le grain est traitée directement dans
+ * le thread appelant, sans passer par le pool.
+ */
+final class ParallelFor {
+
+    /** Traitement d’une plage [from, to) d’indices. */
+    @FunctionalInterface
+    interface RangeBody {
+        void run(int from, int to);
+    }
+
+    private ParallelFor() {
+    }
+
+    /**
+     * Exécute {@code body} sur [from, to) en parallèle.
+     *
+     * @param from premier indice (inclus)
+     * @param to dernier indice (exclu)
+     * @param grain taille maximale d’un morceau traité séquentiellement
+     * @param body corps de boucle
+     */
+    static void range(int from, int to, int grain, RangeBody body) {
+        if (to - from <= grain) {
+            if (from < to) body.run(from, to);
+            return;
+        }
+        ForkJoinPool.commonPool().invoke(new RangeTask(from, to, Math.max(1, grain), body));
+    }
+
+    /** Découpe récursive d’une plage d’indices. */
+    private static final class RangeTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int from, to, grain;
+
+        /** Lambda non sérialisable : la tâche n’est jamais sérialisée (ForkJoinTask est Serializable). */
+        private final transient RangeBody body;
+
+        RangeTask(int from, int to, int grain, RangeBody body) {
+            this.from = from;
+            this.to = to;
+            this.grain = grain;
+            this.body = body;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= grain) {
+                body.run(from, to);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new RangeTask(from, mid, grain, body), new RangeTask(mid, to, grain, body));
+        }
+    }
+}
@@ -2,8 +2,20 @@ package Modele;
 
 import java.util.*;
 
+/**
+ * Algorithme de Prim : arbre couvrant minimal construit à partir d’un sommet de départ.
+ *
+ * Le sommet suivant est extrait d’un tas 4-aire indexé ({@link IndexedMinHeap}) avec
+ * diminution de clé, en ne parcourant que les voisins réels (vue CSR) : O(m log n) au
+ * lieu de O(n²). La clé d’un sommet regroupe le poids de l’arête qui le relie à l’arbre
+ * et son indice, de sorte qu’à poids égal le sommet d’indice le plus petit sort en
+ * premier, comme avec l’ancien balayage linéaire.
+ */
 public class Prim {
 
+    /** Nombre d’enfants de chaque nœud du tas. */
+    private static final int HEAP_ARITY = 4;
+
     private static final List<Integer> finalPath = new ArrayList<>();
 
     public static List<Integer> getFinalPath() {
@@ -12,8 +24,8 @@ public class Prim {
 
     public static String getResult(Graphe g, int start) {
         StringBuilder sb = new StringBuilder();
-        int[][] mat = g.getMatrix();
-        int n = mat.length;
+        AdjacenceCSR csr = g.getCSR();
+        int n = csr.getNbSommets();
 
         boolean[] visited = new boolean[n];
         int[] parent = new int[n];
@@ -22,18 +34,24 @@ public class Prim {
         Arrays.fill(parent, -1);
         key[start] = 0;
 
+        IndexedMinHeap heap = new IndexedMinHeap(n, HEAP_ARITY);
+        heap.insertOrDecrease(start, heapKey(0, start));
+
         sb.append("Étape 1 : Exécution de Prim (départ : ").append(g.getVertexName(start)).append(")\n");
 
         // --- Algorithme de Prim ---
         for (int count = 0; count < n - 1; count++) {
-            int u = minKey(key, visited);
-            if (u == -1) break; // Graphe non connexe
+            if (heap.isEmpty()) break; // Graphe non connexe
+            int u = heap.poll();
             visited[u] = true;
 
-            for (int v = 0; v < n; v++) {
-                if (mat[u][v] > 0 && !visited[v] && mat[u][v] < key[v]) {
-                    key[v] = mat[u][v];
+            for (int e = csr.firstArc(u); e < csr.endArc(u); e++) {
+                int v = csr.arcTarget(e);
+                int w = csr.arcWeight(e);
+                if (w > 0 && !visited[v] && w < key[v]) {
+                    key[v] = w;
                     parent[v] = u;
+                    heap.insertOrDecrease(v, heapKey(w, v));
                 }
             }
         }
@@ -45,10 +63,11 @@ public class Prim {
         sb.append("\nÉtape 2 : Arbre couvrant minimal obtenu\n");
         for (int i = 0; i < n; i++) {
             if (parent[i] != -1) {
-                mst.add(new int[]{parent[i], i, mat[parent[i]][i]});
-                totalCost += mat[parent[i]][i];
+                int w = csr.weight(parent[i], i);
+                mst.add(new int[]{parent[i], i, w});
+                totalCost += w;
                 sb.append(String.format("%s — %s : %d\n",
-                        g.getVertexName(parent[i]), g.getVertexName(i), mat[parent[i]][i]));
+                        g.getVertexName(parent[i]), g.getVertexName(i), w));
             }
         }
         sb.append("Coût total = ").append(totalCost).append("\n");
@@ -70,15 +89,9 @@ public class Prim {
         return sb.toString();
     }
 
-    private static int minKey(int[] key, boolean[] visited) {
-        int min = Integer.MAX_VALUE, minIndex = -1;
-        for (int v = 0; v < key.length; v++) {
-            if (!visited[v] && key[v] < min) {
-                min = key[v];
-                minIndex = v;
-            }
-        }
-        return minIndex;
+    /** Clé du tas : poids en 32 bits de poids fort, indice du sommet ensuite (départage à poids égal). */
+    private static long heapKey(int weight, int v) {
+        return ((long) weight << 32) | v;
     }
 
     private static void generatePathWithBacktrack(int node, Map<Integer, List<Integer>> tree, boolean[] visited) {
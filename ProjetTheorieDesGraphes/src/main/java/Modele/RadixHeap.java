@@ -0,0 +1,128 @@
+package Modele;
+
+import java.util.Arrays;
+
+/**
+ * Tas radix monotone pour clés entières positives ({@code long}).
+ *
+ * Monotone signifie que toute clé insérée doit être supérieure ou égale à la
+ * dernière clé extraite, ce qui est toujours le cas dans Dijkstra à poids positifs.
+ * Un élément de clé k est rangé dans le seau numéro « position du bit de poids fort
+ * de {@code k XOR last} », où {@code last} est la dernière clé extraite : il y a au
+ * plus 65 seaux. Lors d’une extraction, seul le premier seau non vide est
+ * redistribué, et chaque élément ne peut que descendre de seau : le coût amorti
+ * est O(log C) par opération, sans aucune comparaison entre clés dans les seaux.
+ *
+ * La diminution de clé se fait par réinsertion : l’appelant ignore ensuite les
+ * entrées périmées (clé supérieure à la distance courante du sommet).
+ */
+public class RadixHeap {
+
+    /** Nombre de seaux : un par bit de poids fort possible, plus le seau des clés égales à last. */
+    private static final int NB_BUCKETS = 65;
+
+    /** Sommets de chaque seau. */
+    private final int[][] items = new int[NB_BUCKETS][];
+
+    /** Clés de chaque seau (même position que dans {@code items}). */
+    private final long[][] keys = new long[NB_BUCKETS][];
+
+    /** Nombre d’éléments de chaque seau. */
+    private final int[] sizes = new int[NB_BUCKETS];
+
+    /** Dernière clé extraite (borne inférieure de toutes les clés présentes). */
+    private long last;
+
+    /** Nombre total d’éléments. */
+    private int size;
+
+    /** Sommet et clé du dernier élément extrait. */
+    private int polledVertex;
+    private long polledKey;
+
+    /** Crée un tas vide. */
+    public RadixHeap() {
+        for (int b = 0; b < NB_BUCKETS; b++) {
+            items[b] = new int[4];
+            keys[b] = new long[4];
+        }
+    }
+
+    /** @return true si le tas ne contient aucun élément */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /** @return nombre d’éléments (entrées périmées comprises) */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Insère un sommet avec sa clé.
+     *
+     * @param v sommet
+     * @param key clé (≥ dernière clé extraite)
+     */
+    public void push(int v, long key) {
+        if (key < last) throw new IllegalArgumentException("Clé " + key + " inférieure au minimum extrait " + last);
+        add(bucketOf(key), v, key);
+        size++;
+    }
+
+    /**
+     * Extrait un élément de clé minimale ; son sommet et sa clé sont ensuite
+     * disponibles via {@link #polledVertex()} et {@link #polledKey()}.
+     */
+    public void poll() {
+        if (size == 0) throw new IllegalStateException("Tas vide");
+        if (sizes[0] == 0) {
+            int b = 1;
+            while (sizes[b] == 0) b++;
+
+            // Nouveau minimum, puis redistribution du seau b dans les seaux inférieurs
+            long min = Long.MAX_VALUE;
+            for (int i = 0; i < sizes[b]; i++) min = Math.min(min, keys[b][i]);
+            last = min;
+            int count = sizes[b];
+            sizes[b] = 0;
+            for (int i = 0; i < count; i++) add(bucketOf(keys[b][i]), items[b][i], keys[b][i]);
+        }
+        int i = --sizes[0];
+        polledVertex = items[0][i];
+        polledKey = keys[0][i];
+        size--;
+    }
+
+    /** @return sommet du dernier élément extrait */
+    public int polledVertex() {
+        return polledVertex;
+    }
+
+    /** @return clé du dernier élément extrait */
+    public long polledKey() {
+        return polledKey;
+    }
+
+    /** Vide le tas et remet la borne inférieure à 0. */
+    public void clear() {
+        Arrays.fill(sizes, 0);
+        size = 0;
+        last = 0;
+    }
+
+    private int bucketOf(long key) {
+        return key == last ? 0 : 64 - Long.numberOfLeadingZeros(key ^ last);
+    }
+
+    private void add(int b, int v, long key) {
+        int s = sizes[b];
+        if (s == items[b].length) {
+            items[b] = Arrays.copyOf(items[b], s * 2);
+            keys[b] = Arrays.copyOf(keys[b], s * 2);
+        }
+        items[b][s] = v;
+        keys[b][s] = key;
+        sizes[b] = s + 1;
+    }
+}
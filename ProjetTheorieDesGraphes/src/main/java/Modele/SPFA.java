@@ -0,0 +1,214 @@
+package Modele;
+
+import java.util.*;
+
+/**
+ * Variante de {@link BellmanFord} à base de file (SPFA, « Shortest Path Faster Algorithm »).
+ *
+ * Au lieu de relâcher tous les arcs à chaque itération, seuls les arcs sortants
+ * des sommets dont la distance vient de diminuer sont relâchés : ces sommets sont
+ * placés dans une file FIFO (au plus une fois chacun). L’algorithme s’arrête dès
+ * que la file est vide, c’est-à-dire dès que plus aucune distance ne change.
+ * Le pire cas reste O(n·m), mais sur les graphes usuels le nombre de relâchements
+ * est proche de celui de Dijkstra. Les poids négatifs sont acceptés.
+ *
+ * Détection des cycles absorbants : chaque sommet mémorise le nombre d’arcs de son
+ * chemin provisoire. Un chemin d’au moins n arcs passe forcément deux fois par
+ * le même sommet ; on cherche alors un cycle dans le graphe des prédécesseurs,
+ * qui est nécessairement de poids négatif.
+ *
+ * Le texte produit reprend le format du résultat de {@link BellmanFord}.
+ */
+public class SPFA {
+
+    /** Liste contenant les indices des sommets du chemin final. */
+    private final List<Integer> finalPath = new ArrayList<>();
+
+    /** Sommets du cycle absorbant trouvé lors du dernier calcul (vide s’il n’y en a pas). */
+    private final List<Integer> negativeCycle = new ArrayList<>();
+
+    /** Constructeur vide pour compatibilité avec la partie graphique. */
+    public SPFA() {}
+
+    /**
+     * Retourne le chemin final trouvé après exécution de l’algorithme.
+     *
+     * @return une liste d’indices représentant le plus court chemin
+     */
+    public List<Integer> getFinalPath() {
+        return finalPath;
+    }
+
+    /** @return true si le dernier calcul a rencontré un cycle absorbant */
+    public boolean hasNegativeCycle() {
+        return !negativeCycle.isEmpty();
+    }
+
+    /**
+     * @return sommets du cycle absorbant trouvé, dans le sens des arcs
+     *         (liste vide s’il n’y en a pas)
+     */
+    public List<Integer> getNegativeCycle() {
+        return new ArrayList<>(negativeCycle);
+    }
+
+    /**
+     * Calcule le plus court chemin entre deux sommets donnés (indices).
+     *
+     * @param g graphe sur lequel exécuter l’algorithme
+     * @param start indice du sommet source
+     * @param end indice du sommet destination
+     * @return une chaîne contenant le résultat de l’algorithme
+     */
+    public String getResult(Graphe g, int start, int end) {
+        int n = g.getNbSommets();
+        String[] noms = new String[n];
+        for (int i = 0; i < n; i++) noms[i] = g.getVertexName(i);
+
+        ShortestPathTree tree = compute(g, start);
+        StringBuilder sb = new StringBuilder();
+        finalPath.clear();
+
+        if (tree == null) {
+            sb.append("Le graphe contient un cycle absorbant (poids négatif).\n");
+            sb.append("Cycle : ")
+                    .append(new NegativeCycle(g.getCSR(), negativeCycle).describe(g)).append("\n");
+            return sb.toString();
+        }
+
+        if (!tree.hasPath(end)) {
+            sb.append("Aucun chemin n’existe entre ")
+                    .append(noms[start]).append(" et ").append(noms[end]).append(".\n");
+            return sb.toString();
+        }
+
+        finalPath.addAll(tree.path(end));
+        sb.append("Chemin le plus court de ").append(noms[start])
+                .append(" à ").append(noms[end]).append(" :\n");
+        sb.append(String.join(" → ", finalPath.stream().map(i -> noms[i]).toArray(String[]::new)));
+        sb.append("   →   Distance = ").append(tree.distance(end)).append("\n");
+        return sb.toString();
+    }
+
+    /**
+     * Calcule l’arbre des plus courts chemins depuis une source (poids négatifs acceptés).
+     *
+     * @param g graphe à traiter
+     * @param source sommet source
+     * @return arbre des plus courts chemins, ou null si un cycle absorbant est
+     *         atteignable depuis la source (voir {@link #getNegativeCycle()})
+     */
+    public ShortestPathTree compute(Graphe g, int source) {
+        AdjacenceCSR csr = g.getCSR();
+        int n = csr.getNbSommets();
+        long[] dist = new long[n];
+        int[] parent = new int[n];
+
+        negativeCycle.clear();
+        int onCycle = search(csr, new int[]{source}, dist, parent);
+        if (onCycle != -1) {
+            negativeCycle.addAll(cycleThrough(parent, onCycle));
+            return null;
+        }
+        return new ShortestPathTree(source, dist, parent);
+    }
+
+    /**
+     * Cœur de l’algorithme, partagé avec les autres moteurs du paquetage :
+     * toutes les sources de {@code starts} partent à la distance 0 (ce qui revient
+     * à ajouter une source virtuelle reliée à chacune par un arc de poids nul).
+     *
+     * @param csr arcs du graphe
+     * @param starts sommets sources
+     * @param dist tableau des distances (taille n), rempli par la méthode
+     * @param parent tableau des prédécesseurs (taille n), rempli par la méthode
+     * @return -1 si aucun cycle absorbant n’est atteint, sinon un sommet de ce cycle
+     */
+    static int search(AdjacenceCSR csr, int[] starts, long[] dist, int[] parent) {
+        int n = csr.getNbSommets();
+        Arrays.fill(dist, Dijkstra.INFINI);
+        Arrays.fill(parent, -1);
+        int[] length = new int[n];
+        boolean[] inQueue = new boolean[n];
+
+        // File circulaire : chaque sommet y figure au plus une fois
+        int[] queue = new int[n + 1];
+        int head = 0, tail = 0;
+        int nextCheck = n; // longueur de chemin à partir de laquelle on cherche un cycle
+        for (int s : starts) {
+            if (inQueue[s]) continue;
+            dist[s] = 0;
+            inQueue[s] = true;
+            queue[tail++] = s;
+        }
+
+        while (head != tail) {
+            int u = queue[head];
+            head = (head + 1) % queue.length;
+            inQueue[u] = false;
+
+            long du = dist[u];
+            for (int e = csr.firstArc(u); e < csr.endArc(u); e++) {
+                int v = csr.arcTarget(e);
+                long nd = du + csr.arcWeight(e);
+                if (nd < dist[v]) {
+                    dist[v] = nd;
+                    parent[v] = u;
+                    length[v] = length[u] + 1;
+                    // Un chemin de n arcs ou plus contient un cycle : on le cherche
+                    // (au plus une recherche en O(n) chaque fois que la longueur gagne n)
+                    if (length[v] >= nextCheck) {
+                        int onCycle = findParentCycle(parent);
+                        if (onCycle != -1) return onCycle;
+                        nextCheck = length[v] + n;
+                    }
+                    if (!inQueue[v]) {
+                        inQueue[v] = true;
+                        queue[tail] = v;
+                        tail = (tail + 1) % queue.length;
+                    }
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Cherche un cycle dans le graphe des prédécesseurs (chaque sommet a au plus un père).
+     *
+     * @param parent tableau des prédécesseurs
+     * @return un sommet du cycle, ou -1 si le graphe des prédécesseurs est une forêt
+     */
+    static int findParentCycle(int[] parent) {
+        int n = parent.length;
+        int[] mark = new int[n]; // 0 = non visité, sinon numéro de la remontée + 1
+        for (int s = 0; s < n; s++) {
+            if (mark[s] != 0) continue;
+            int v = s;
+            while (v != -1 && mark[v] == 0) {
+                mark[v] = s + 1;
+                v = parent[v];
+            }
+            if (v != -1 && mark[v] == s + 1) return v;
+        }
+        return -1;
+    }
+
+    /**
+     * Reconstruit un cycle du graphe des prédécesseurs passant par {@code v}.
+     *
+     * @param parent tableau des prédécesseurs
+     * @param v sommet appartenant au cycle
+     * @return sommets du cycle dans le sens des arcs
+     */
+    static List<Integer> cycleThrough(int[] parent, int v) {
+        List<Integer> cycle = new ArrayList<>();
+        int x = v;
+        do {
+            cycle.add(x);
+            x = parent[x];
+        } while (x != v);
+        Collections.reverse(cycle);
+        return cycle;
+    }
+}
@@ -0,0 +1,130 @@
+package Modele;
+
+import java.util.*;
+
+/**
+ * Arbre des plus courts chemins issu d’un sommet source (résultat « un vers tous »).
+ *
+ * L’objet est immuable : il conserve les distances et les prédécesseurs calculés
+ * une seule fois, dans des tableaux primitifs. Demander ensuite le chemin vers
+ * n’importe quelle destination coûte seulement O(longueur du chemin), sans relancer
+ * de recherche.
+ *
+ * Exemple :
+ *
+ * ShortestPathTree tree = Dijkstra.shortestPathTree(g, paris);
+ * long d = tree.distance(lyon);
+ * List&lt;Integer&gt; chemin = tree.path(grenoble);
+ */
+public final class ShortestPathTree {
+
+    /** Sommet source de l’arbre. */
+    private final int source;
+
+    /** dist[v] = distance minimale de la source à v ({@link Dijkstra#INFINI} si non atteint). */
+    private final long[] dist;
+
+    /** parent[v] = prédécesseur de v sur le plus court chemin (-1 pour la source ou un sommet non atteint). */
+    private final int[] parent;
+
+    /**
+     * Constructeur interne : les tableaux appartiennent ensuite à l’arbre
+     * et ne doivent plus être modifiés par l’appelant.
+     *
+     * @param source sommet source
+     * @param dist distances minimales
+     * @param parent prédécesseurs
+     */
+    ShortestPathTree(int source, long[] dist, int[] parent) {
+        this.source = source;
+        this.dist = dist;
+        this.parent = parent;
+    }
+
+    /**
+     * Reconstruit des prédécesseurs déterministes à partir de distances définitives :
+     * parcours en largeur depuis la source sur les arcs « tendus » (dist[u] + w = dist[v]).
+     * Contrairement au choix local d’un prédécesseur, le parcours ne peut pas créer
+     * de cycle, même en présence de circuits de poids total nul.
+     *
+     * @param csr arcs du graphe
+     * @param source sommet source
+     * @param dist distances définitives depuis la source
+     * @return tableau des prédécesseurs (-1 pour la source et les sommets non atteints)
+     */
+    static int[] tightParents(AdjacenceCSR csr, int source, long[] dist) {
+        int n = csr.getNbSommets();
+        int[] parent = new int[n];
+        Arrays.fill(parent, -1);
+        boolean[] seen = new boolean[n];
+        int[] queue = new int[n];
+        int head = 0, tail = 0;
+        queue[tail++] = source;
+        seen[source] = true;
+        while (head < tail) {
+            int u = queue[head++];
+            for (int e = csr.firstArc(u); e < csr.endArc(u); e++) {
+                int v = csr.arcTarget(e);
+                if (!seen[v] && dist[v] != Dijkstra.INFINI && dist[u] + csr.arcWeight(e) == dist[v]) {
+                    seen[v] = true;
+                    parent[v] = u;
+                    queue[tail++] = v;
+                }
+            }
+        }
+        return parent;
+    }
+
+    /** @return sommet source de l’arbre */
+    public int getSource() {
+        return source;
+    }
+
+    /** @return nombre de sommets du graphe */
+    public int getNbSommets() {
+        return dist.length;
+    }
+
+    /**
+     * @param v sommet destination
+     * @return distance minimale de la source à v, ou {@link Dijkstra#INFINI} si v n’est pas atteignable
+     */
+    public long distance(int v) {
+        return dist[v];
+    }
+
+    /**
+     * @param v sommet destination
+     * @return true si v est atteignable depuis la source
+     */
+    public boolean hasPath(int v) {
+        return dist[v] != Dijkstra.INFINI;
+    }
+
+    /**
+     * @param v sommet
+     * @return prédécesseur de v dans l’arbre, ou -1
+     */
+    public int parent(int v) {
+        return parent[v];
+    }
+
+    /**
+     * Reconstruit le plus court chemin de la source vers v en remontant les prédécesseurs.
+     *
+     * @param v sommet destination
+     * @return liste des sommets du chemin (vide si v n’est pas atteignable)
+     */
+    public List<Integer> path(int v) {
+        List<Integer> path = new ArrayList<>();
+        if (!hasPath(v)) return path;
+        for (int x = v; x != -1; x = parent[x]) path.add(x);
+        Collections.reverse(path);
+        return path;
+    }
+
+    /** @return copie du tableau des distances */
+    public long[] getDistances() {
+        return dist.clone();
+    }
+}
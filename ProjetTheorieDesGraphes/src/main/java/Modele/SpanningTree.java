@@ -0,0 +1,104 @@
+package Modele;
+
+import java.util.*;
+
+/**
+ * Arbre (ou forêt) couvrant minimal : arêtes retenues et coût total.
+ *
+ * Les arêtes sont stockées dans des tableaux parallèles, dans l’ordre où le moteur
+ * les a retenues. Pour un graphe non connexe, le résultat est une forêt : un arbre
+ * couvrant minimal par composante connexe ({@link #getNbComponents()} arbres).
+ *
+ * L’objet est immuable ; il est produit par {@link Kruskal#compute(Graphe)}.
+ */
+public final class SpanningTree {
+
+    /** Nombre de sommets du graphe. */
+    private final int n;
+
+    /** Extrémités et poids des arêtes retenues. */
+    private final int[] from, to, weight;
+
+    /** Somme des poids des arêtes retenues. */
+    private final long totalCost;
+
+    /**
+     * Constructeur interne : les tableaux appartiennent ensuite au résultat.
+     *
+     * @param n nombre de sommets
+     * @param from première extrémité de chaque arête
+     * @param to seconde extrémité de chaque arête
+     * @param weight poids de chaque arête
+     */
+    SpanningTree(int n, int[] from, int[] to, int[] weight) {
+        this.n = n;
+        this.from = from;
+        this.to = to;
+        this.weight = weight;
+        long total = 0;
+        for (int w : weight) total += w;
+        this.totalCost = total;
+    }
+
+    /** @return nombre de sommets du graphe */
+    public int getNbSommets() {
+        return n;
+    }
+
+    /** @return nombre d’arêtes retenues */
+    public int getNbEdges() {
+        return from.length;
+    }
+
+    /** @return nombre de composantes connexes (nombre d’arbres de la forêt) */
+    public int getNbComponents() {
+        return n - from.length;
+    }
+
+    /** @return true si le graphe est connexe (une seule composante) */
+    public boolean isConnected() {
+        return getNbComponents() <= 1;
+    }
+
+    /** @return coût total de l’arbre (ou de la forêt) */
+    public long getTotalCost() {
+        return totalCost;
+    }
+
+    /**
+     * @param k indice de l’arête (0 ≤ k &lt; {@link #getNbEdges()})
+     * @return première extrémité
+     */
+    public int from(int k) {
+        return from[k];
+    }
+
+    /**
+     * @param k indice de l’arête
+     * @return seconde extrémité
+     */
+    public int to(int k) {
+        return to[k];
+    }
+
+    /**
+     * @param k indice de l’arête
+     * @return poids de l’arête
+     */
+    public int weight(int k) {
+        return weight[k];
+    }
+
+    /**
+     * @return arêtes sous la forme {min, max, poids}, triées par extrémités :
+     *         deux moteurs donnent le même arbre si et seulement si ces listes sont égales
+     */
+    public List<List<Integer>> getSortedEdges() {
+        List<List<Integer>> edges = new ArrayList<>();
+        for (int k = 0; k < from.length; k++) {
+            edges.add(List.of(Math.min(from[k], to[k]), Math.max(from[k], to[k]), weight[k]));
+        }
+        edges.sort(Comparator.<List<Integer>>comparingInt(e -> e.get(0)).thenComparingInt(e -> e.get(1)));
+        return edges;
+    }
+}
@@ -0,0 +1,21 @@
+package Modele;
+
+/**
+ * Énumération des représentations mémoire possibles pour un {@link Graphe}.
+ *
+ * - MATRICE : matrice d’adjacence {@code int[n][n]}, accès au poids d’une arête en O(1),
+ *   mais occupation mémoire en O(n²) quel que soit le nombre d’arêtes.
+ * - CSR : listes d’adjacence compactées au format CSR (Compressed Sparse Row),
+ *   occupation mémoire en O(n + m), adaptée aux grands graphes peu denses
+ *   (réseaux routiers par exemple).
+ *
+ * Le choix se fait à la construction du graphe et ne change pas ensuite.
+ */
+public enum Stockage {
+
+    /** Matrice d’adjacence dense (comportement historique). */
+    MATRICE,
+
+    /** Tableaux compressés offsets / cibles / poids (Compressed Sparse Row). */
+    CSR
+}
@@ -0,0 +1,68 @@
+package Modele;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShape;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Noyau min-plus vectorisé (API Vector, module incubateur {@code jdk.incubator.vector}).
+ *
+ * Cette classe n’est chargée que si le module est présent au démarrage
+ * (option {@code --add-modules jdk.incubator.vector}) ; sinon {@link MinPlusKernel}
+ * utilise la boucle scalaire équivalente.
+ *
+ * Une ligne est traitée par paquets de L cases : L distances {@code long} et les
+ * L prédécesseurs {@code int} correspondants, chargés avec une espèce entière de
+ * même nombre de voies. Les prédécesseurs sont élargis en {@code long} pour être
+ * fusionnés avec le masque des distances, puis réduits en {@code int} : cette
+ * conversion est compilée en instructions vectorielles, alors que la conversion
+ * du masque lui-même ({@code VectorMask.cast}) ne l’est pas sur le JDK 17.
+ */
+final class VectorMinPlus {
+
+    /** Espèce préférée du processeur pour les distances. */
+    private static final VectorSpecies<Long> LONGS = LongVector.SPECIES_PREFERRED;
+
+    /** Espèce des prédécesseurs : même nombre de voies, deux fois moins de bits. */
+    private static final VectorSpecies<Integer> INTS =
+            VectorSpecies.of(int.class, VectorShape.forBitSize(Math.max(64, LONGS.vectorBitSize() / 2)));
+
+    private VectorMinPlus() {
+    }
+
+    /** @return true si les deux espèces ont le même nombre de voies (condition d’utilisation) */
+    static boolean isSupported() {
+        return LONGS.length() > 1 && LONGS.length() == INTS.length();
+    }
+
+    /**
+     * Relâche la ligne i sur les colonnes [j0, j1[ via le sommet intermédiaire k :
+     * dist[i][j] ← min(dist[i][j], dik + dist[k][j]), avec mise à jour de pred[i][j].
+     */
+    static void relaxRow(long[] dist, int[] pred, int rowI, int rowK, int j0, int j1, long dik) {
+        int lanes = LONGS.length();
+        LongVector vik = LongVector.broadcast(LONGS, dik);
+        int j = j0;
+        int upper = j0 + LONGS.loopBound(j1 - j0);
+        for (; j < upper; j += lanes) {
+            LongVector ij = LongVector.fromArray(LONGS, dist, rowI + j);
+            LongVector nd = vik.add(LongVector.fromArray(LONGS, dist, rowK + j));
+            VectorMask<Long> better = nd.compare(VectorOperators.LT, ij);
+            if (!better.anyTrue()) continue;
+
+            ij.blend(nd, better).intoArray(dist, rowI + j);
+            LongVector pi = widen(IntVector.fromArray(INTS, pred, rowI + j));
+            LongVector pk = widen(IntVector.fromArray(INTS, pred, rowK + j));
+            ((IntVector) pi.blend(pk, better).convertShape(VectorOperators.L2I, INTS, 0)).intoArray(pred, rowI + j);
+        }
+        MinPlusKernel.relaxRowScalar(dist, pred, rowI, rowK, j, j1, dik);
+    }
+
+    /** Élargit L prédécesseurs {@code int} en L voies {@code long}. */
+    private static LongVector widen(IntVector v) {
+        return (LongVector) v.convertShape(VectorOperators.I2L, LONGS, 0);
+    }
+}
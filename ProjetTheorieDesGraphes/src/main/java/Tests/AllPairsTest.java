@@ -0,0 +1,238 @@
+package Tests;
+
+import Modele.*;
+import org.junit.Assume;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * Classe de tests unitaires pour les calculs de plus courts chemins
+ * entre toutes les paires de sommets.
+ */
+public class AllPairsTest {
+
+    /** Vérifie qu’un chemin suit des arcs réels et que sa longueur vaut la distance annoncée. */
+    static void assertPathMatches(Graphe g, AllPairsResult apsp, int i, int j) {
+        List<Integer> path = apsp.path(i, j);
+        if (!apsp.hasPath(i, j)) {
+            assertTrue(path.isEmpty());
+            return;
+        }
+        assertEquals(Integer.valueOf(i), path.get(0));
+        assertEquals(Integer.valueOf(j), path.get(path.size() - 1));
+        long length = 0;
+        for (int k = 0; k + 1 < path.size(); k++) {
+            int w = g.getPoids(path.get(k), path.get(k + 1));
+            assertTrue(w != 0);
+            length += w;
+        }
+        assertEquals(apsp.distance(i, j), length);
+    }
+
+    /** Vérifie Johnson contre Floyd-Warshall sur un graphe peu dense à poids négatifs. */
+    @Test
+    public void testJohnsonMatchesFloydWarshall() {
+        Graphe g = ShortestPathTest.randomNegativeDag(120, 300, 11);
+        assertEquals(AllPairsShortestPaths.Engine.JOHNSON, AllPairsShortestPaths.select(g));
+
+        AllPairsResult expected = FloydWarshall.allPairs(g);
+        AllPairsResult johnson = new Johnson().compute(g);
+        for (int i = 0; i < 120; i++) {
+            for (int j = 0; j < 120; j++) {
+                assertEquals(i + " → " + j, expected.distance(i, j), johnson.distance(i, j));
+                assertPathMatches(g, johnson, i, j);
+            }
+        }
+    }
+
+    /** Vérifie les tableaux plats de Floyd-Warshall contre le texte produit sur le graphe des villes. */
+    @Test
+    public void testFlatFloydWarshallMatchesReport() {
+        Graphe g = GraphManager.initDefaultGraph(null, null);
+        AllPairsResult apsp = AllPairsShortestPaths.compute(g);
+        assertEquals(245, apsp.distance(2, 9));
+        String report = new FloydWarshall().getResult(g, 2, 9);
+        assertTrue(report.contains("Distance = 245"));
+        assertEquals(FloydWarshall.getFinalPath(), apsp.path(2, 9));
+    }
+
+    /** Vérifie que les deux moteurs signalent un cycle absorbant. */
+    @Test
+    public void testAllPairsDetectsNegativeCycle() {
+        Graphe g = ShortestPathTest.randomNegativeDag(60, 150, 12);
+        g.addEdge(10, 20, 3);
+        g.addEdge(20, 10, -4);
+
+        Johnson johnson = new Johnson();
+        assertNull(johnson.compute(g));
+        assertTrue(johnson.hasNegativeCycle());
+        assertNull(FloydWarshall.allPairs(g));
+
+        FloydWarshall fw = new FloydWarshall();
+        String report = fw.getResult(g, 0, 59);
+        assertTrue(report.contains("Cycle absorbant détecté"));
+        assertNotNull(fw.getNegativeCycle());
+        assertTrue(fw.getNegativeCycle().getTotalWeight() < 0);
+        assertTrue(FloydWarshall.getFinalPath().isEmpty());
+
+        // Plusieurs blocs : cycle très négatif entre le premier et le dernier bloc
+        Graphe large = ShortestPathTest.randomNegativeDag(200, 3000, 13);
+        large.addEdge(5, 190, -1_000_000_000);
+        large.addEdge(190, 5, -1_000_000_000);
+        assertNull(BlockedFloydWarshall.compute(large, false));
+        assertNull(BlockedFloydWarshall.compute(large, true));
+    }
+
+    /** Vérifie Floyd-Warshall par blocs (taille non multiple du bloc) contre Johnson et le rapport texte. */
+    @Test
+    public void testBlockedFloydWarshallMatchesJohnson() {
+        Graphe g = ShortestPathTest.randomNegativeDag(150, 2500, 15);
+        AllPairsResult expected = new Johnson().compute(g);
+        AllPairsResult blocked = BlockedFloydWarshall.compute(g);
+
+        for (int i = 0; i < 150; i++) {
+            for (int j = 0; j < 150; j++) {
+                assertEquals(i + " → " + j, expected.distance(i, j), blocked.distance(i, j));
+                assertPathMatches(g, blocked, i, j);
+            }
+        }
+
+        // Au-delà de la limite de trace, le rapport utilise le calcul par blocs
+        FloydWarshall fw = new FloydWarshall();
+        String report = fw.getResult(g, 0, 149);
+        assertFalse(report.contains("Étape k"));
+        assertTrue(report.contains("Distance = " + expected.distance(0, 149)));
+        assertEquals(blocked.path(0, 149), FloydWarshall.getFinalPath());
+    }
+
+    /** Vérifie les phases parallèles de Floyd-Warshall par blocs sur un graphe non orienté plus grand. */
+    @Test
+    public void testParallelBlockedFloydWarshallOnLargerGraph() {
+        Graphe g = ShortestPathTest.randomGraph(330, 1500, 60, false, 16);
+        AllPairsResult blocked = BlockedFloydWarshall.compute(g);
+        for (int s = 0; s < 330; s += 41) {
+            ShortestPathTree tree = Dijkstra.shortestPathTree(g, s);
+            for (int t = 0; t < 330; t++) {
+                assertEquals(s + " → " + t, tree.distance(t), blocked.distance(s, t));
+                assertEquals(blocked.distance(t, s), blocked.distance(s, t));
+            }
+            assertPathMatches(g, blocked, s, 329);
+        }
+    }
+
+    /** Vérifie que le noyau vectorisé produit exactement les mêmes matrices que la boucle scalaire. */
+    @Test
+    public void testVectorKernelMatchesScalar() {
+        // Sans le module jdk.incubator.vector, compute(g, true) retomberait sur la boucle scalaire
+        Assume.assumeTrue(BlockedFloydWarshall.isVectorAvailable());
+        Graphe g = ShortestPathTest.randomNegativeDag(203, 4000, 19);
+        AllPairsResult scalar = BlockedFloydWarshall.compute(g, false);
+        AllPairsResult vector = BlockedFloydWarshall.compute(g, true);
+        assertArrayEquals(scalar.getDistances(), vector.getDistances());
+        assertArrayEquals(scalar.getPredecessors(), vector.getPredecessors());
+
+        g.addEdge(150, 20, -100000);
+        assertNull(BlockedFloydWarshall.compute(g, false));
+        assertNull(BlockedFloydWarshall.compute(g, true));
+    }
+
+    /** Vérifie l’oracle de distances (chemins par sommets suivants), puis son enregistrement et son rechargement. */
+    @Test
+    public void testDistanceOracleSaveAndLoad() throws IOException {
+        Graphe g = ShortestPathTest.randomNegativeDag(90, 400, 20);
+        AllPairsResult expected = new Johnson().compute(g);
+        DistanceOracle oracle = DistanceOracle.compute(g);
+
+        // Fichier encore projeté après le test : suppression à la sortie (exigée par Windows)
+        Path file = Files.createTempFile("oracle", ".apsp");
+        file.toFile().deleteOnExit();
+        oracle.save(file);
+        DistanceOracle loaded = DistanceOracle.load(file);
+        assertEquals(90, loaded.getNbSommets());
+        for (int u = 0; u < 90; u++) {
+            for (int v = 0; v < 90; v++) {
+                assertEquals(u + " → " + v, expected.distance(u, v), oracle.distance(u, v));
+                assertEquals(oracle.distance(u, v), loaded.distance(u, v));
+                assertEquals(oracle.path(u, v), loaded.path(u, v));
+                List<Integer> path = oracle.path(u, v);
+                long length = 0;
+                for (int k = 0; k + 1 < path.size(); k++) length += g.getPoids(path.get(k), path.get(k + 1));
+                if (oracle.hasPath(u, v)) assertEquals(oracle.distance(u, v), length);
+                else assertTrue(path.isEmpty());
+            }
+        }
+
+        Path corrupt = Files.createTempFile("oracle", ".apsp");
+        try {
+            Files.write(corrupt, new byte[]{1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16, 17});
+            assertThrows(IOException.class, () -> DistanceOracle.load(corrupt));
+        } finally {
+            Files.deleteIfExists(corrupt);
+        }
+
+        // L’oracle de Floyd-Warshall reste disponible après le rapport
+        FloydWarshall fw = new FloydWarshall();
+        fw.getResult(GraphManager.initDefaultGraph(null, null), 2, 9);
+        assertEquals(245, fw.getOracle().distance(2, 9));
+        assertEquals(FloydWarshall.getFinalPath(), fw.getOracle().path(2, 9));
+    }
+
+    /** Applique des modifications d’arêtes aléatoires et compare chaque fois au calcul complet. */
+    static void checkIncrementalUpdates(Graphe g, int steps, int minWeight, long seed) {
+        int n = g.getNbSommets();
+        IncrementalAllPairs apsp = IncrementalAllPairs.of(g);
+        Random rnd = new Random(seed);
+        for (int step = 0; step < steps; step++) {
+            int u = rnd.nextInt(n), v = rnd.nextInt(n);
+            int old = g.getPoids(u, v);
+            int w = rnd.nextInt(4) == 0 ? 0 : minWeight + rnd.nextInt(40);
+            boolean decrease = w != 0 && (old == 0 || w < old);
+            if (!apsp.setEdge(u, v, w)) {
+                assertEquals(old, g.getPoids(u, v)); // modification annulée
+                continue;
+            }
+            if (decrease) assertEquals(0, apsp.getLastRecomputedRows());
+
+            AllPairsResult expected = AllPairsShortestPaths.compute(g);
+            AllPairsResult current = apsp.snapshot();
+            for (int i = 0; i < n; i++) {
+                for (int j = 0; j < n; j++) {
+                    assertEquals("étape " + step + " : " + i + " → " + j, expected.distance(i, j), current.distance(i, j));
+                }
+                assertPathMatches(g, current, i, rnd.nextInt(n));
+            }
+        }
+    }
+
+    /** Vérifie la mise à jour incrémentale sur un graphe orienté à poids négatifs. */
+    @Test
+    public void testIncrementalAllPairsDirected() {
+        Graphe g = ShortestPathTest.randomNegativeDag(60, 150, 21);
+        checkIncrementalUpdates(g, 120, -10, 22);
+
+        // Un arc qui ferme un circuit négatif est refusé
+        IncrementalAllPairs apsp = IncrementalAllPairs.of(g);
+        long before = apsp.distance(0, 59);
+        if (before != Long.MAX_VALUE) {
+            assertFalse(apsp.setEdge(59, 0, (int) -before - 1));
+            assertEquals(before, apsp.distance(0, 59));
+        }
+    }
+
+    /** Vérifie la mise à jour incrémentale sur un graphe non orienté (deux arcs par arête). */
+    @Test
+    public void testIncrementalAllPairsUndirected() {
+        Graphe g = ShortestPathTest.randomGraph(70, 120, 30, false, 23);
+        checkIncrementalUpdates(g, 120, 1, 24);
+
+        IncrementalAllPairs apsp = IncrementalAllPairs.of(g);
+        assertFalse(apsp.setEdge(3, 4, -1)); // arête négative = cycle 3 → 4 → 3
+    }
+}
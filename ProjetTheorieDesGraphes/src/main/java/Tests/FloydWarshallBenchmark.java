@@ -0,0 +1,53 @@
+package Tests;
+
+import Modele.AllPairsResult;
+import Modele.BlockedFloydWarshall;
+import Modele.Graphe;
+
+import java.util.Arrays;
+
+/**
+ * Mesure du gain du noyau vectorisé de Floyd-Warshall par blocs (ce n’est pas un test JUnit).
+ *
+ * Lancement (le module incubateur doit être ajouté pour activer l’API Vector) :
+ *
+ * java --add-modules jdk.incubator.vector ... Tests.FloydWarshallBenchmark [n] [répétitions]
+ *
+ * Pour chaque taille, le calcul scalaire et le calcul vectorisé sont exécutés sur
+ * le même graphe, après un échauffement ; le meilleur temps de chacun est affiché,
+ * ainsi que l’accélération obtenue. Les deux résultats sont comparés case par case.
+ */
+public class FloydWarshallBenchmark {
+
+    public static void main(String[] args) {
+        int[] sizes = args.length > 0 ? new int[]{Integer.parseInt(args[0])} : new int[]{256, 512, 1024};
+        int repetitions = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+
+        System.out.println("API Vector disponible : " + BlockedFloydWarshall.isVectorAvailable());
+        for (int n : sizes) {
+            Graphe g = ShortestPathTest.randomGraph(n, 8 * n, 1000, true, n);
+
+            // Échauffement (compilation JIT des deux noyaux)
+            BlockedFloydWarshall.compute(g, false);
+            BlockedFloydWarshall.compute(g, true);
+
+            long scalar = Long.MAX_VALUE, vector = Long.MAX_VALUE;
+            AllPairsResult rs = null, rv = null;
+            for (int r = 0; r < repetitions; r++) {
+                long t0 = System.nanoTime();
+                rs = BlockedFloydWarshall.compute(g, false);
+                long t1 = System.nanoTime();
+                rv = BlockedFloydWarshall.compute(g, true);
+                long t2 = System.nanoTime();
+                scalar = Math.min(scalar, t1 - t0);
+                vector = Math.min(vector, t2 - t1);
+            }
+
+            boolean same = Arrays.equals(rs.getDistances(), rv.getDistances())
+                    && Arrays.equals(rs.getPredecessors(), rv.getPredecessors());
+            System.out.printf("n = %5d : scalaire %8.1f ms, vectorisé %8.1f ms, accélération x%.2f%s%n",
+                    n, scalar / 1e6, vector / 1e6, (double) scalar / vector,
+                    same ? "" : "  (RÉSULTATS DIFFÉRENTS)");
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package Tests;
+
+import Modele.*;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Classe de tests unitaires pour la classe {@link Graphe}.
+ *
+ * Ces tests vérifient que le stockage CSR se comporte exactement
+ * comme la matrice d’adjacence historique.
+ */
+public class GrapheTest {
+
+    /**
+     * Recopie le graphe par défaut dans un graphe stocké au format CSR.
+     */
+    private Graphe defaultGraphCSR() {
+        Graphe m = GraphManager.initDefaultGraph(null, null);
+        int n = m.getNbSommets();
+        Graphe g = new Graphe(n, m.isOriented(), true,
+                m.getAllVertexNames().toArray(new String[0]), Stockage.CSR);
+        for (int i = 0; i < n; i++)
+            for (int j = 0; j < n; j++)
+                if (m.getPoids(i, j) != 0) g.addEdge(i, j, m.getPoids(i, j));
+        return g;
+    }
+
+    /** Vérifie l’ajout, la modification et la suppression d’arêtes en stockage CSR. */
+    @Test
+    public void testCSRAddRemoveEdge() {
+        Graphe g = new Graphe(4, false, true, null, Stockage.CSR);
+        g.addEdge(0, 1, 5);
+        g.addEdge(0, 2, 7);
+        g.addEdge(0, 1, 3);
+
+        assertEquals(3, g.getPoids(1, 0));
+        assertEquals(2, g.degree(0));
+        assertEquals(3, g.getCSR().weight(0, 1));
+
+        g.removeEdge(0, 1);
+        assertEquals(0, g.getPoids(0, 1));
+        assertEquals(1, g.degree(0));
+        assertEquals(0, g.getCSR().weight(1, 0));
+    }
+
+    /** Vérifie que les algorithmes donnent les mêmes résultats sur les deux stockages. */
+    @Test
+    public void testCSRSameResultsAsMatrix() {
+        Graphe m = GraphManager.initDefaultGraph(null, null);
+        Graphe c = defaultGraphCSR();
+
+        assertEquals(Dijkstra.getResult(m, 2, 9), Dijkstra.getResult(c, 2, 9));
+        assertEquals(new BFS().getResult(m, 0), new BFS().getResult(c, 0));
+        assertEquals(new DFS().getResult(m, 0), new DFS().getResult(c, 0));
+        assertEquals(new Kruskal().getResult(m), new Kruskal().getResult(c));
+        assertEquals(Prim.getResult(m, 3), Prim.getResult(c, 3));
+        assertEquals(new BellmanFord().getResult(m, 0, 9), new BellmanFord().getResult(c, 0, 9));
+    }
+
+    /** Vérifie que la vue en lecture seule correspond à la matrice d’adjacence. */
+    @Test
+    public void testViewMatchesMatrix() {
+        Graphe g = GraphManager.initDefaultGraph(null, null);
+        GraphView view = g.getView();
+        int[][] mat = g.getMatrix();
+
+        for (int i = 0; i < mat.length; i++) {
+            int deg = 0;
+            for (int j = 0; j < mat.length; j++) {
+                assertEquals(mat[i][j], view.weight(i, j));
+                if (mat[i][j] != 0) deg++;
+            }
+            assertEquals(deg, view.degree(i));
+
+            final int u = i;
+            view.forEachNeighbor(u, (v, poids) -> assertEquals(mat[u][v], poids));
+        }
+
+        // La vue suit les modifications du graphe
+        g.addEdge(1, 9, 12);
+        assertEquals(12, view.weight(9, 1));
+    }
+}
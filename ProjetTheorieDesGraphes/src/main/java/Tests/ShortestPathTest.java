@@ -0,0 +1,450 @@
+package Tests;
+
+import Modele.*;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * Classe de tests unitaires pour les moteurs de plus court chemin.
+ *
+ * Chaque moteur est comparé à une référence (Bellman-Ford ou Dijkstra)
+ * sur des graphes aléatoires peu denses stockés au format CSR.
+ */
+public class ShortestPathTest {
+
+    /**
+     * Construit un graphe aléatoire connexe (une chaîne plus des arêtes au hasard).
+     *
+     * @param n nombre de sommets
+     * @param m nombre d’arêtes supplémentaires
+     * @param maxWeight poids maximal (les poids sont entre 1 et maxWeight)
+     * @param directed true pour un graphe orienté
+     * @param seed graine du générateur
+     */
+    static Graphe randomGraph(int n, int m, int maxWeight, boolean directed, long seed) {
+        Random rnd = new Random(seed);
+        Graphe g = new Graphe(n, directed, true, null, Stockage.CSR);
+        for (int i = 1; i < n; i++) g.addEdge(i - 1, i, 1 + rnd.nextInt(maxWeight));
+        for (int k = 0; k < m; k++) {
+            int u = rnd.nextInt(n), v = rnd.nextInt(n);
+            if (u != v) g.addEdge(u, v, 1 + rnd.nextInt(maxWeight));
+        }
+        return g;
+    }
+
+    /** Extrait l’entier qui suit {@code motif} dans un texte, ou -1 s’il est absent. */
+    static long extractNumber(String text, String motif) {
+        int i = text.indexOf(motif);
+        if (i < 0) return -1;
+        int j = i + motif.length();
+        while (j < text.length() && text.charAt(j) == ' ') j++;
+        int k = j;
+        while (k < text.length() && (Character.isDigit(text.charAt(k)) || text.charAt(k) == '-')) k++;
+        return Long.parseLong(text.substring(j, k));
+    }
+
+    /** Vérifie Dijkstra (tas binaire, arrêt anticipé) contre Bellman-Ford. */
+    @Test
+    public void testHeapDijkstraMatchesBellmanFord() {
+        Graphe g = randomGraph(200, 600, 50, true, 1);
+        for (int t = 0; t < 200; t += 7) {
+            long expected = extractNumber(new BellmanFord().getResult(g, 0, t), "Distance =");
+            long actual = extractNumber(Dijkstra.getResult(g, 0, t), "Distance minimale :");
+            assertEquals("Distance 0 → " + t, expected, actual);
+        }
+    }
+
+    /** Graphe non orienté 0 – 1 (poids 1), 1 – 2 (poids -2), sommet 3 isolé : l’arête négative forme un cycle absorbant. */
+    static Graphe negativeEdgeGraph() {
+        Graphe g = new Graphe(4, false, true, null, Stockage.CSR);
+        g.addEdge(0, 1, 1);
+        g.addEdge(1, 2, -2);
+        return g;
+    }
+
+    /** Vérifie que Dijkstra refuse les poids négatifs et que la recherche se termine malgré un cycle absorbant. */
+    @Test(timeout = 5000)
+    public void testDijkstraRejectsNegativeWeights() {
+        Graphe g = negativeEdgeGraph();
+        assertThrows(IllegalArgumentException.class, () -> Dijkstra.getResult(g, 0, 3));
+        // Sans contrôle, un sommet déjà extrait n’est pas réinséré : la recherche s’arrête
+        assertEquals(Long.MAX_VALUE, Dijkstra.shortestPathTree(g, 0).distance(3));
+    }
+
+    /** Vérifie que A* refuse les poids négatifs et que la recherche se termine malgré un cycle absorbant. */
+    @Test(timeout = 5000)
+    public void testAStarRejectsNegativeWeights() {
+        Graphe g = negativeEdgeGraph();
+        assertThrows(IllegalArgumentException.class, () -> AStar.getResult(g, 0, 3));
+        assertEquals(Long.MAX_VALUE, AStar.shortestPath(g, 0, 3, Heuristic.zero(), null));
+    }
+
+    /** Vérifie Dijkstra bidirectionnel contre Dijkstra, sur graphes orienté et non orienté. */
+    @Test
+    public void testBidirectionalDijkstraMatchesDijkstra() {
+        for (boolean directed : new boolean[]{true, false}) {
+            Graphe g = randomGraph(300, 900, 40, directed, 2);
+            for (int s = 0; s < 300; s += 37) {
+                for (int t = 0; t < 300; t += 11) {
+                    long expected = extractNumber(Dijkstra.getResult(g, s, t), "Distance minimale :");
+                    if (expected == -1) expected = Long.MAX_VALUE; // sommet non atteignable
+                    long actual = BidirectionalDijkstra.shortestPath(g, s, t, null);
+                    assertEquals("Distance " + s + " → " + t, expected, actual);
+                }
+            }
+        }
+    }
+
+    /** Vérifie le chemin renvoyé par Dijkstra bidirectionnel sur le graphe des villes. */
+    @Test
+    public void testBidirectionalDijkstraRennesGrenoble() {
+        Graphe g = GraphManager.initDefaultGraph(null, null);
+        String result = BidirectionalDijkstra.getResult(g, 2, 9);
+        assertTrue(result.contains("Distance minimale : 245"));
+        assertEquals(Integer.valueOf(2), BidirectionalDijkstra.getFinalPath().get(0));
+        assertEquals(Integer.valueOf(9), BidirectionalDijkstra.getFinalPath().get(BidirectionalDijkstra.getFinalPath().size() - 1));
+    }
+
+    /** Vérifie A* (heuristique à vol d’oiseau) contre Dijkstra sur le graphe des villes. */
+    @Test
+    public void testAStarMatchesDijkstraOnCities() {
+        Graphe g = GraphManager.initDefaultGraph(null, null);
+        assertTrue(g.hasCoordinates());
+        Heuristic h = new GreatCircleHeuristic(g);
+
+        for (int s = 0; s < 10; s++) {
+            for (int t = 0; t < 10; t++) {
+                long expected = extractNumber(Dijkstra.getResult(g, s, t), "Distance minimale :");
+                assertEquals("Distance " + s + " → " + t, expected, AStar.shortestPath(g, s, t, h, null));
+                assertTrue(h.lowerBound(s, t) <= expected);
+            }
+        }
+    }
+
+    /** Vérifie qu’A* explore moins de sommets que Dijkstra sur une grille géographique. */
+    @Test
+    public void testAStarExpandsFewerVertices() {
+        int side = 30;
+        Graphe g = new Graphe(side * side, false, true, null, Stockage.CSR);
+        for (int r = 0; r < side; r++) {
+            for (int c = 0; c < side; c++) {
+                int v = r * side + c;
+                g.setCoordinates(v, 45 + r * 0.01, 2 + c * 0.01);
+                if (c + 1 < side) g.addEdge(v, v + 1, 10);
+                if (r + 1 < side) g.addEdge(v, v + side, 12);
+            }
+        }
+
+        int start = 15 * side + 15, end = 15 * side + side - 1; // du centre vers le bord est
+        AStar.shortestPath(g, start, end, Heuristic.zero(), null);
+        int withoutHeuristic = AStar.getLastExpanded();
+        long d = AStar.shortestPath(g, start, end, new GreatCircleHeuristic(g), null);
+
+        assertEquals(14 * 10L, d);
+        assertTrue(AStar.getLastExpanded() < withoutHeuristic);
+    }
+
+    /** Vérifie distances et chemins dépliés des hiérarchies de contraction contre Dijkstra. */
+    @Test
+    public void testContractionHierarchiesMatchesDijkstra() {
+        for (boolean directed : new boolean[]{true, false}) {
+            Graphe g = randomGraph(400, 1000, 30, directed, 3);
+            ContractionHierarchies ch = new ContractionHierarchies(g);
+
+            for (int s = 0; s < 400; s += 23) {
+                for (int t = 0; t < 400; t += 17) {
+                    long expected = extractNumber(Dijkstra.getResult(g, s, t), "Distance minimale :");
+                    if (expected == -1) expected = Long.MAX_VALUE;
+                    assertEquals("Distance " + s + " → " + t, expected, ch.distance(s, t));
+
+                    // Le chemin déplié doit suivre des arcs réels et avoir la bonne longueur
+                    java.util.List<Integer> path = ch.path(s, t);
+                    if (expected == Long.MAX_VALUE) {
+                        assertTrue(path.isEmpty());
+                        continue;
+                    }
+                    assertEquals(Integer.valueOf(s), path.get(0));
+                    assertEquals(Integer.valueOf(t), path.get(path.size() - 1));
+                    long length = 0;
+                    for (int i = 0; i + 1 < path.size(); i++) {
+                        int w = g.getPoids(path.get(i), path.get(i + 1));
+                        assertTrue(w > 0);
+                        length += w;
+                    }
+                    assertEquals(expected, length);
+                }
+            }
+        }
+    }
+
+    /** Vérifie le texte produit par les hiérarchies de contraction sur le graphe des villes. */
+    @Test
+    public void testContractionHierarchiesRennesGrenoble() {
+        ContractionHierarchies ch = new ContractionHierarchies(GraphManager.initDefaultGraph(null, null));
+        String result = ch.getResult(2, 9);
+        assertTrue(result.contains("Distance minimale : 245"));
+        assertEquals(Integer.valueOf(9), ch.getFinalPath().get(ch.getFinalPath().size() - 1));
+    }
+
+    /** Vérifie que les raccourcis dont le poids dépasse un int ne sont pas tronqués. */
+    @Test
+    public void testContractionHierarchiesLargeShortcutWeights() {
+        Graphe g = new Graphe(6, false, true, null, Stockage.CSR);
+        for (int v = 0; v + 1 < 6; v++) g.addEdge(v, v + 1, 2_000_000_000);
+        ContractionHierarchies ch = new ContractionHierarchies(g);
+        for (int t = 0; t < 6; t++) {
+            assertEquals(2_000_000_000L * t, ch.distance(0, t));
+            assertEquals(t + 1, ch.path(0, t).size());
+        }
+    }
+
+    /** Vérifie A* avec repères ALT (deux stratégies) contre Dijkstra, sans coordonnées. */
+    @Test
+    public void testLandmarksAStarMatchesDijkstra() {
+        Graphe g = randomGraph(300, 700, 25, true, 4);
+        for (Landmarks.Selection selection : Landmarks.Selection.values()) {
+            Landmarks alt = new Landmarks(g, 6, selection);
+            assertEquals(6, java.util.Arrays.stream(alt.getLandmarks()).distinct().count());
+
+            for (int s = 0; s < 300; s += 29) {
+                for (int t = 0; t < 300; t += 13) {
+                    long expected = extractNumber(Dijkstra.getResult(g, s, t), "Distance minimale :");
+                    if (expected == -1) expected = Long.MAX_VALUE;
+                    assertEquals("Distance " + s + " → " + t, expected, AStar.shortestPath(g, s, t, alt, null));
+                    assertTrue(alt.lowerBound(s, t) <= expected);
+                }
+            }
+        }
+    }
+
+    /** Vérifie l’arbre des plus courts chemins contre des requêtes Dijkstra individuelles. */
+    @Test
+    public void testShortestPathTreeMatchesDijkstra() {
+        Graphe g = GraphManager.initDefaultGraph(null, null);
+        ShortestPathTree tree = Dijkstra.shortestPathTree(g, 2);
+
+        assertEquals(2, tree.getSource());
+        for (int t = 0; t < g.getNbSommets(); t++) {
+            long expected = extractNumber(Dijkstra.getResult(g, 2, t), "Distance minimale :");
+            assertEquals(expected, tree.distance(t));
+            assertEquals(Dijkstra.getFinalPath(), tree.path(t));
+        }
+        assertEquals(java.util.List.of(2, 0, 7, 9), tree.path(9));
+    }
+
+    /** Vérifie la table plusieurs-vers-plusieurs (Dijkstra parallèle et seaux CH) contre l’arbre des plus courts chemins. */
+    @Test
+    public void testDistanceTableMatchesShortestPathTree() {
+        for (boolean directed : new boolean[]{true, false}) {
+            Graphe g = randomGraph(300, 800, 30, directed, 5);
+            int[] sources = {0, 17, 42, 99, 150, 299, 17};
+            int[] targets = {3, 8, 64, 128, 200, 255, 299, 0};
+
+            DistanceTable parallel = DistanceTable.compute(g, sources, targets);
+            DistanceTable buckets = DistanceTable.compute(new ContractionHierarchies(g), sources, targets);
+            assertEquals(sources.length * targets.length, parallel.getTable().length);
+
+            for (int i = 0; i < sources.length; i++) {
+                ShortestPathTree tree = Dijkstra.shortestPathTree(g, sources[i]);
+                for (int j = 0; j < targets.length; j++) {
+                    assertEquals(tree.distance(targets[j]), parallel.distance(i, j));
+                    assertEquals(tree.distance(targets[j]), buckets.distance(i, j));
+                }
+            }
+        }
+    }
+
+    /** Vérifie Dijkstra multi-sources contre un arbre des plus courts chemins par source. */
+    @Test
+    public void testNearestSourcesMatchesPerSourceTrees() {
+        Graphe g = randomGraph(250, 600, 20, false, 6);
+        int[] sources = {5, 80, 170, 240};
+        NearestSources zones = Dijkstra.nearestSources(g, sources);
+
+        ShortestPathTree[] trees = new ShortestPathTree[sources.length];
+        for (int i = 0; i < sources.length; i++) trees[i] = Dijkstra.shortestPathTree(g, sources[i]);
+
+        for (int v = 0; v < g.getNbSommets(); v++) {
+            long best = Long.MAX_VALUE;
+            int bestSource = -1;
+            for (int i = 0; i < sources.length; i++) {
+                long d = trees[i].distance(v);
+                if (d < best || (d == best && sources[i] < bestSource)) {
+                    best = d;
+                    bestSource = sources[i];
+                }
+            }
+            assertEquals("Distance de " + v, best, zones.distance(v));
+            assertEquals("Source de " + v, bestSource, zones.nearestSource(v));
+            assertEquals(Integer.valueOf(bestSource), zones.path(v).get(0));
+        }
+    }
+
+    /** Vérifie delta-stepping (plusieurs Δ, frontières parallèles) contre Dijkstra. */
+    @Test
+    public void testDeltaSteppingMatchesDijkstra() {
+        Graphe g = randomGraph(20000, 80000, 100, true, 7);
+        ShortestPathTree expected = Dijkstra.shortestPathTree(g, 0);
+
+        for (long delta : new long[]{1, 25, DeltaStepping.defaultDelta(g.getCSR()), 1000}) {
+            ShortestPathTree tree = DeltaStepping.shortestPathTree(g, 0, delta);
+            for (int v = 0; v < g.getNbSommets(); v++) {
+                assertEquals("Δ = " + delta + ", sommet " + v, expected.distance(v), tree.distance(v));
+                int p = tree.parent(v);
+                if (p != -1) assertEquals(tree.distance(v), tree.distance(p) + g.getPoids(p, v));
+            }
+        }
+    }
+
+    /** Vérifie Dial et le tas radix contre Dijkstra, y compris avec de grands poids. */
+    @Test
+    public void testIntegerDijkstraMatchesDijkstra() {
+        for (int maxWeight : new int[]{1, 150, 1_000_000}) {
+            Graphe g = randomGraph(2000, 6000, maxWeight, true, 8);
+            ShortestPathTree expected = Dijkstra.shortestPathTree(g, 0);
+
+            for (IntegerDijkstra.Queue queue : IntegerDijkstra.Queue.values()) {
+                ShortestPathTree tree = IntegerDijkstra.shortestPathTree(g, 0, queue);
+                for (int v = 0; v < g.getNbSommets(); v++) {
+                    assertEquals(queue + ", sommet " + v, expected.distance(v), tree.distance(v));
+                    int p = tree.parent(v);
+                    if (p != -1) assertEquals(tree.distance(v), tree.distance(p) + g.getPoids(p, v));
+                }
+            }
+        }
+        // Dial imposé avec un poids maximal extrême : repli sur le tas radix, sans débordement
+        Graphe heavy = new Graphe(3, true, true, null, Stockage.CSR);
+        heavy.addEdge(0, 1, Integer.MAX_VALUE);
+        heavy.addEdge(1, 2, Integer.MAX_VALUE);
+        ShortestPathTree tree = IntegerDijkstra.shortestPathTree(heavy, 0, IntegerDijkstra.Queue.DIAL);
+        assertEquals(2L * Integer.MAX_VALUE, tree.distance(2));
+
+        Graphe cities = GraphManager.initDefaultGraph(null, null);
+        assertEquals(IntegerDijkstra.Queue.DIAL, IntegerDijkstra.select(cities.getCSR()));
+        assertEquals(245, IntegerDijkstra.shortestPath(cities, 2, 9, null));
+    }
+
+    /**
+     * Construit un graphe orienté sans circuit (arcs i → j avec i &lt; j) dont une partie
+     * des poids est négative : les plus courts chemins existent toujours.
+     */
+    static Graphe randomNegativeDag(int n, int m, long seed) {
+        Random rnd = new Random(seed);
+        Graphe g = new Graphe(n, true, true, null, Stockage.CSR);
+        for (int i = 1; i < n; i++) g.addEdge(i - 1, i, 1 + rnd.nextInt(20));
+        for (int k = 0; k < m; k++) {
+            int u = rnd.nextInt(n), v = rnd.nextInt(n);
+            int w = rnd.nextInt(41) - 15;
+            if (u < v && w != 0) g.addEdge(u, v, w);
+        }
+        return g;
+    }
+
+    /** Vérifie SPFA contre Bellman-Ford avec des poids négatifs, puis la détection de cycle absorbant. */
+    @Test
+    public void testSpfaMatchesBellmanFordAndDetectsNegativeCycle() {
+        Graphe g = randomNegativeDag(150, 500, 9);
+        SPFA spfa = new SPFA();
+        for (int t = 0; t < 150; t += 7) {
+            long expected = extractNumber(new BellmanFord().getResult(g, 0, t), "Distance =");
+            long actual = extractNumber(spfa.getResult(g, 0, t), "Distance =");
+            assertEquals("Distance 0 → " + t, expected, actual);
+            if (t > 0) assertEquals(Integer.valueOf(t), spfa.getFinalPath().get(spfa.getFinalPath().size() - 1));
+        }
+        assertFalse(spfa.hasNegativeCycle());
+
+        // Circuit 40 → 60 → 80 → 40 de poids total -3
+        g.addEdge(40, 60, 5);
+        g.addEdge(60, 80, 2);
+        g.addEdge(80, 40, -10);
+        assertNull(spfa.compute(g, 0));
+        assertTrue(spfa.hasNegativeCycle());
+        java.util.List<Integer> cycle = spfa.getNegativeCycle();
+        long total = 0;
+        for (int i = 0; i < cycle.size(); i++) {
+            int w = g.getPoids(cycle.get(i), cycle.get((i + 1) % cycle.size()));
+            assertTrue(w != 0);
+            total += w;
+        }
+        assertTrue(total < 0);
+        assertTrue(spfa.getResult(g, 0, 10).contains("cycle absorbant"));
+    }
+
+    /** Vérifie Bellman-Ford parallèle (deux modes) contre SPFA, puis la détection de cycle absorbant. */
+    @Test
+    public void testParallelBellmanFordMatchesSpfa() {
+        Graphe g = randomNegativeDag(3000, 12000, 10);
+        ShortestPathTree expected = new SPFA().compute(g, 0);
+
+        for (ParallelBellmanFord.Mode mode : ParallelBellmanFord.Mode.values()) {
+            ParallelBellmanFord pbf = new ParallelBellmanFord(mode);
+            ShortestPathTree tree = pbf.compute(g, 0);
+            assertFalse(pbf.hasNegativeCycle());
+            for (int v = 0; v < g.getNbSommets(); v++) {
+                assertEquals(mode + ", sommet " + v, expected.distance(v), tree.distance(v));
+                int p = tree.parent(v);
+                if (p != -1) assertEquals(tree.distance(v), tree.distance(p) + g.getPoids(p, v));
+            }
+            assertEquals(Integer.valueOf(0), tree.path(2999).get(0));
+        }
+
+        g.addEdge(100, 200, 4);
+        g.addEdge(200, 100, -5);
+        for (ParallelBellmanFord.Mode mode : ParallelBellmanFord.Mode.values()) {
+            ParallelBellmanFord pbf = new ParallelBellmanFord(mode);
+            assertNull(pbf.compute(g, 0));
+            assertTrue(pbf.hasNegativeCycle());
+        }
+    }
+
+    /** Vérifie l’extraction de cycle absorbant (démontage de sous-arbres) et son affichage. */
+    @Test
+    public void testNegativeCycleExtraction() {
+        Graphe g = randomNegativeDag(500, 2000, 13);
+        assertNull(NegativeCycle.find(g));
+
+        // Circuit 300 → 350 → 420 → 300 de poids total -2, inaccessible depuis 400
+        g.addEdge(300, 350, 4);
+        g.addEdge(350, 420, 4);
+        g.addEdge(420, 300, -10);
+        for (NegativeCycle cycle : new NegativeCycle[]{NegativeCycle.find(g), NegativeCycle.find(g, 0)}) {
+            assertNotNull(cycle);
+            java.util.List<Integer> vertices = cycle.getVertices();
+            long total = 0;
+            for (int i = 0; i < vertices.size(); i++) {
+                int w = g.getPoids(vertices.get(i), vertices.get((i + 1) % vertices.size()));
+                assertTrue(w != 0);
+                total += w;
+            }
+            assertEquals(total, cycle.getTotalWeight());
+            assertTrue(total < 0);
+        }
+        assertNull(NegativeCycle.find(g, 430));
+
+        assertTrue(new BellmanFord().getResult(g, 0, 10).contains("poids total = "));
+        assertTrue(new SPFA().getResult(g, 0, 10).contains("poids total = "));
+    }
+
+    /** Vérifie que la détection de cycle concorde avec SPFA sur des graphes aléatoires avec poids négatifs. */
+    @Test
+    public void testNegativeCycleAgreesWithSpfa() {
+        Random rnd = new Random(14);
+        for (int trial = 0; trial < 30; trial++) {
+            Graphe g = new Graphe(40, true, true, null, Stockage.CSR);
+            for (int k = 0; k < 90; k++) {
+                int u = rnd.nextInt(40), v = rnd.nextInt(40);
+                int w = rnd.nextInt(30) - 6;
+                if (u != v && w != 0) g.addEdge(u, v, w);
+            }
+            SPFA spfa = new SPFA();
+            boolean expected = false;
+            for (int s = 0; s < 40 && !expected; s++) expected = spfa.compute(g, s) == null;
+            NegativeCycle cycle = NegativeCycle.find(g);
+            assertEquals("Essai " + trial, expected, cycle != null);
+            if (cycle != null) assertTrue(cycle.getTotalWeight() < 0);
+        }
+    }
+}
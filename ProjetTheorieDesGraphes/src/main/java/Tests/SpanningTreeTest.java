@@ -0,0 +1,164 @@
+package Tests;
+
+import Modele.*;
+import org.junit.Test;
+
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Classe de tests unitaires pour les moteurs d’arbre couvrant minimal.
+ *
+ * Les moteurs sont comparés à un Kruskal de référence (liste d’arêtes triée de
+ * façon stable par poids) : à poids égaux, tous doivent retenir les mêmes arêtes.
+ */
+public class SpanningTreeTest {
+
+    /**
+     * Crée un graphe non orienté aléatoire (stockage CSR), non nécessairement connexe.
+     *
+     * @param minWeight poids minimal (les poids nuls sont ignorés)
+     * @param range nombre de poids possibles à partir de minWeight
+     */
+    static Graphe randomUndirected(int n, int m, int minWeight, int range, long seed) {
+        Random rnd = new Random(seed);
+        Graphe g = new Graphe(n, false, true, null, Stockage.CSR);
+        for (int k = 0; k < m; k++) {
+            int u = rnd.nextInt(n), v = rnd.nextInt(n);
+            int w = minWeight + rnd.nextInt(range);
+            if (u != v && w != 0) g.addEdge(u, v, w);
+        }
+        return g;
+    }
+
+    /** Kruskal de référence : arêtes {min, max, poids} triées par extrémités, suivies du coût total. */
+    static List<List<Integer>> referenceKruskal(Graphe g) {
+        int n = g.getNbSommets();
+        List<int[]> edges = new ArrayList<>();
+        for (int i = 0; i < n; i++)
+            for (int j = i + 1; j < n; j++)
+                if (g.getPoids(i, j) != 0) edges.add(new int[]{i, j, g.getPoids(i, j)});
+        edges.sort(Comparator.comparingInt(e -> e[2]));
+
+        UnionFind uf = new UnionFind(n);
+        List<List<Integer>> mst = new ArrayList<>();
+        for (int[] e : edges) if (uf.union(e[0], e[1])) mst.add(List.of(e[0], e[1], e[2]));
+        mst.sort(Comparator.<List<Integer>>comparingInt(e -> e.get(0)).thenComparingInt(e -> e.get(1)));
+        return mst;
+    }
+
+    /** Somme des poids d’une liste d’arêtes {u, v, poids}. */
+    static long cost(List<List<Integer>> edges) {
+        long total = 0;
+        for (List<Integer> e : edges) total += e.get(2);
+        return total;
+    }
+
+    /** Vérifie le Kruskal sur tableaux (tri par base) : poids négatifs, grands poids et nombreux ex aequo. */
+    @Test
+    public void testKruskalMatchesReference() {
+        Graphe[] graphs = {
+                randomUndirected(300, 2000, -1_000_000_000, 2_000_000_000, 31), // poids signés sur 32 bits
+                randomUndirected(300, 2000, 1, 5, 32),                           // beaucoup d’égalités
+                randomUndirected(400, 300, 1, 100, 33)                           // forêt (non connexe)
+        };
+        for (Graphe g : graphs) {
+            List<List<Integer>> expected = referenceKruskal(g);
+            SpanningTree mst = Kruskal.compute(g);
+            assertEquals(expected, mst.getSortedEdges());
+            assertEquals(cost(expected), mst.getTotalCost());
+            assertEquals(g.getNbSommets() - expected.size(), mst.getNbComponents());
+        }
+
+        // Le texte détaillé retient les mêmes arêtes
+        Graphe g = graphs[1];
+        String text = new Kruskal().getResult(g);
+        assertTrue(text.contains("Coût total de l'arbre couvrant = " + Kruskal.compute(g).getTotalCost()));
+    }
+
+    /** Vérifie le tri parallèle des arêtes (nombre d’arêtes au-delà du seuil). */
+    @Test
+    public void testKruskalParallelSortOnManyEdges() {
+        Graphe g = randomUndirected(1000, 200_000, 1, 50, 34);
+        SpanningTree mst = Kruskal.compute(g);
+        assertEquals(referenceKruskal(g), mst.getSortedEdges());
+        assertTrue(mst.isConnected());
+    }
+
+    /** Vérifie que Filter-Kruskal retient exactement les arêtes de Kruskal (graphes denses, ex aequo, forêt). */
+    @Test
+    public void testFilterKruskalMatchesKruskal() {
+        Graphe[] graphs = {
+                randomUndirected(400, 40_000, 1, 1000, 35),   // dense : plusieurs niveaux de partition
+                randomUndirected(400, 40_000, -3, 7, 36),     // nombreux ex aequo, poids négatifs
+                randomUndirected(2000, 1500, 1, 100, 37),     // forêt
+                GraphManager.initDefaultGraph(null, null)
+        };
+        for (Graphe g : graphs) {
+            SpanningTree expected = Kruskal.compute(g);
+            SpanningTree filtered = FilterKruskal.compute(g);
+            assertEquals(expected.getSortedEdges(), filtered.getSortedEdges());
+            assertEquals(expected.getTotalCost(), filtered.getTotalCost());
+        }
+    }
+
+    /** Vérifie la forêt de Borůvka contre Kruskal, y compris sur un graphe non connexe et sur un grand graphe. */
+    @Test
+    public void testBoruvkaMatchesKruskal() {
+        Graphe[] graphs = {
+                randomUndirected(500, 5000, -50, 100, 38),
+                randomUndirected(3000, 2500, 1, 4, 39),        // forêt, nombreux ex aequo
+                randomUndirected(20_000, 300_000, 1, 10_000, 40),
+                GraphManager.initDefaultGraph(null, null),
+                new Graphe(5, false, true, null, Stockage.CSR)  // aucune arête
+        };
+        for (Graphe g : graphs) {
+            SpanningTree expected = Kruskal.compute(g);
+            SpanningTree forest = Boruvka.compute(g);
+            assertEquals(expected.getSortedEdges(), forest.getSortedEdges());
+            assertEquals(expected.getTotalCost(), forest.getTotalCost());
+            assertEquals(expected.getNbComponents(), forest.getNbComponents());
+        }
+    }
+
+    /** Vérifie le tas d-aire indexé : extraction dans l’ordre des clés après des diminutions, pour plusieurs arités. */
+    @Test
+    public void testDaryIndexedMinHeap() {
+        Random rnd = new Random(41);
+        for (int arity = 2; arity <= 5; arity++) {
+            IndexedMinHeap heap = new IndexedMinHeap(500, arity);
+            long[] key = new long[500];
+            for (int v = 0; v < 500; v++) heap.insertOrDecrease(v, key[v] = rnd.nextInt(10_000));
+            for (int t = 0; t < 300; t++) {
+                int v = rnd.nextInt(500);
+                long k = key[v] - rnd.nextInt(5_000);
+                if (heap.insertOrDecrease(v, k)) key[v] = k;
+            }
+            long previous = Long.MIN_VALUE;
+            while (!heap.isEmpty()) {
+                long k = heap.peekKey();
+                int v = heap.poll();
+                assertEquals(key[v], k);
+                assertTrue(k >= previous);
+                previous = k;
+            }
+        }
+    }
+
+    /** Vérifie Prim avec tas sur un grand graphe peu dense : coût de Kruskal et parcours complet de l’arbre. */
+    @Test
+    public void testHeapPrimOnLargeSparseGraph() {
+        Graphe g = ShortestPathTest.randomGraph(5_000, 15_000, 1000, false, 42);
+        String result = Prim.getResult(g, 123);
+        assertTrue(result.contains("Coût total = " + Kruskal.compute(g).getTotalCost()));
+        assertTrue(result.contains("départ : " + g.getVertexName(123)));
+
+        // Le parcours de visualisation part du sommet de départ, suit des arêtes réelles et visite tous les sommets
+        List<Integer> walk = Prim.getFinalPath();
+        assertEquals(Integer.valueOf(123), walk.get(0));
+        assertEquals(2 * 5_000 - 1, walk.size());
+        for (int k = 0; k + 1 < walk.size(); k++) assertTrue(g.getPoids(walk.get(k), walk.get(k + 1)) > 0);
+        assertEquals(5_000, new HashSet<>(walk).size());
+    }
+}
@@ -10,6 +10,7 @@ module org.example.projettheoriedesgraphes {
     requires gs.core;
     requires junit;
     requires com.brunomnsilva.smartgraph; // Pour JUnit 4 (si tu utilises JUnit 5 ce serait `requires org.junit.jupiter.api;`)
+    requires static jdk.incubator.vector; // API Vector (optionnelle) pour Floyd-Warshall
 
     opens org.example.projettheoriedesgraphes to javafx.fxml;
     opens Controller to javafx.fxml;